@@ -0,0 +1,108 @@
+package com.NguyenDevs.worldScrolls.bench;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+public final class BukkitStubs {
+
+    public static final String BUKKIT_VERSION = "1.19.4-R0.1-SNAPSHOT";
+    private static final Logger LOGGER = Logger.getLogger("StubServer");
+
+    private static long particles;
+
+    private BukkitStubs() {
+    }
+
+    public static synchronized void installServer() {
+        if (Bukkit.getServer() != null) return;
+        Bukkit.setServer(stub(Server.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getBukkitVersion": return BUKKIT_VERSION;
+                case "getVersion": return "stub";
+                case "getName": return "StubServer";
+                case "getLogger": return LOGGER;
+                default: return identity(proxy, method.getName(), args, method.getReturnType());
+            }
+        }));
+    }
+
+    public static World world(String name) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        return stub(World.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName": return name;
+                case "getUID": return uid;
+                case "getMinHeight": return -64;
+                case "getMaxHeight": return 320;
+                case "spawnParticle":
+                    particles++;
+                    return null;
+                default: return identity(proxy, method.getName(), args, method.getReturnType());
+            }
+        });
+    }
+
+    public static long getParticles() {
+        return particles;
+    }
+
+    public static YamlConfiguration loadResource(String name) throws IOException {
+        try (InputStream in = BukkitStubs.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) throw new IOException("Resource not found: " + name);
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return YamlConfiguration.loadConfiguration(reader);
+            }
+        }
+    }
+
+    public static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T getField(Object target, String name) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return (T) field.get(target);
+    }
+
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object identity(Object proxy, String method, Object[] args, Class<?> returnType) {
+        switch (method) {
+            case "equals": return proxy == args[0];
+            case "hashCode": return System.identityHashCode(proxy);
+            case "toString": return "Stub" + proxy.getClass().getInterfaces()[0].getSimpleName();
+            default: return defaultValue(returnType);
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+}
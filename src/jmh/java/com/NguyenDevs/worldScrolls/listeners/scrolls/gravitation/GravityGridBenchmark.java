@@ -0,0 +1,58 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.gravitation;
+
+import com.NguyenDevs.worldScrolls.bench.BukkitStubs;
+import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GravityGridBenchmark {
+
+    @Param({"UP", "EAST", "NORTH"})
+    public BlockFace face;
+
+    @Param({"8", "12"})
+    public int ringCount;
+
+    private Location center;
+    private Vector normal;
+    private GravityGridRenderer renderer;
+    private int ticks;
+
+    @Setup
+    public void setup() {
+        center = new Location(BukkitStubs.world("bench"), 0.5, 64.0, 0.5);
+        normal = new Vector(face.getModX(), face.getModY(), face.getModZ());
+        renderer = new GravityGridRenderer(face, normal, 0.8, 4.0, 0.8, ringCount);
+    }
+
+    @Benchmark
+    public long drawRebuilt() {
+        new GravityGridRenderer(face, normal, 0.8, 4.0, 0.8, ringCount).draw(center, 1.0, 1.0, ticks++);
+        return BukkitStubs.getParticles();
+    }
+
+    @Benchmark
+    public long drawPrecomputed() {
+        renderer.draw(center, 1.0, (ticks & 31) / 31.0, ticks++);
+        return BukkitStubs.getParticles();
+    }
+
+    @Benchmark
+    public long drawGrowing() {
+        renderer.draw(center, ((ticks & 31) + 1) / 32.0, 0.0, ticks++);
+        return BukkitStubs.getParticles();
+    }
+}
@@ -0,0 +1,52 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeteorBenchmark {
+
+    private static final int FLIGHT_STEPS = 60;
+
+    @Param({"SPHERICAL", "ARROW", "IRREGULAR", "TAILED", "COMPLEX"})
+    public MeteorShape shape;
+
+    @Param({"3", "10"})
+    public int size;
+
+    private MeteorModel model;
+    private MeteorFrame frame;
+    private int step;
+
+    @Setup
+    public void setup() {
+        model = MeteorModel.generate(shape, size, 42L);
+        frame = new MeteorFrame(model.getVoxelCount());
+    }
+
+    @Benchmark
+    public MeteorModel generateVoxels() {
+        return MeteorModel.generate(shape, size, step++);
+    }
+
+    @Benchmark
+    public int renderDiff() {
+        if (step++ == FLIGHT_STEPS) {
+            step = 0;
+            frame.clear();
+        }
+        frame.update(model, 0.5 + step * 1.6, 170.0 - step * 1.9, 0.5 + step * 0.7);
+        frame.commit();
+        return frame.getDeltaCount();
+    }
+}
@@ -0,0 +1,51 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.bench.BukkitStubs;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigManagerBenchmark {
+
+    private static final String SCROLL_FILE = "scroll_of_meteor";
+
+    private ConfigManager configManager;
+    private final Map<String, String> placeholders = new HashMap<>();
+
+    @Setup
+    public void setup() throws Exception {
+        BukkitStubs.installServer();
+        configManager = new ConfigManager(null);
+        Map<String, FileConfiguration> configs = BukkitStubs.getField(configManager, "configs");
+        configs.put("messages.yml", BukkitStubs.loadResource("messages.yml"));
+        configs.put("scrolls/" + SCROLL_FILE + ".yml", BukkitStubs.loadResource("scrolls/" + SCROLL_FILE + ".yml"));
+        placeholders.put("remaining", "12");
+    }
+
+    @Benchmark
+    public String scrollMessage() {
+        return configManager.getScrollMessage(SCROLL_FILE, "prefix");
+    }
+
+    @Benchmark
+    public String scrollMessageWithPlaceholders() {
+        return configManager.getScrollMessage(SCROLL_FILE, "on-cooldown", placeholders);
+    }
+
+    @Benchmark
+    public String scrollMessageWithSlots() {
+        return configManager.getScrollMessage(SCROLL_FILE, "on-cooldown", "remaining", 12);
+    }
+}
@@ -0,0 +1,39 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.bench.BukkitStubs;
+import org.bukkit.configuration.ConfigurationSection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecipeManagerBenchmark {
+
+    @Param({"scroll_of_meteor", "scroll_of_gravitation"})
+    public String scrollId;
+
+    private ConfigurationSection recipeData;
+    private ConfigurationSection scrollData;
+    private ConfigurationSection scrollConfig;
+
+    @Setup
+    public void setup() throws Exception {
+        recipeData = BukkitStubs.loadResource("recipes.yml").getConfigurationSection(scrollId);
+        scrollData = BukkitStubs.loadResource("scrolls.yml").getConfigurationSection(scrollId);
+        scrollConfig = BukkitStubs.loadResource("scrolls/" + scrollId + ".yml");
+    }
+
+    @Benchmark
+    public String generateRecipeHash() {
+        return RecipeManager.generateRecipeHash(recipeData, scrollData, scrollConfig);
+    }
+}
@@ -0,0 +1,45 @@
+package com.NguyenDevs.worldScrolls.utils;
+
+import com.NguyenDevs.worldScrolls.bench.BukkitStubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ColorUtilsBenchmark {
+
+    @Param({"legacy", "hex", "gradient"})
+    public String kind;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        BukkitStubs.installServer();
+        switch (kind) {
+            case "hex":
+                text = "#f7054eMeteor &7incoming in #ffaa00%remaining% &7seconds";
+                break;
+            case "gradient":
+                text = "&7[<gradient:#f7054e:#f72905>Scroll Of Meteor</gradient>&7] &cYou need to wait %remaining% seconds to use this Scroll!";
+                break;
+            default:
+                text = "&cYou need to wait %remaining% seconds to use this Scroll!";
+                break;
+        }
+    }
+
+    @Benchmark
+    public String colorize() {
+        return ColorUtils.colorize(text);
+    }
+}
@@ -7,9 +7,17 @@ import com.NguyenDevs.worldScrolls.comp.WorldGuardOff;
 import com.NguyenDevs.worldScrolls.comp.WorldGuardOn;
 import com.NguyenDevs.worldScrolls.guis.PlayerGUI;
 import com.NguyenDevs.worldScrolls.listeners.PlayerListener;
+import com.NguyenDevs.worldScrolls.listeners.ScrollInteractListener;
 import com.NguyenDevs.worldScrolls.listeners.scrolls.*;
+import com.NguyenDevs.worldScrolls.managers.BlockEditQueue;
+import com.NguyenDevs.worldScrolls.managers.CastTicker;
 import com.NguyenDevs.worldScrolls.managers.ConfigManager;
+import com.NguyenDevs.worldScrolls.managers.CooldownService;
+import com.NguyenDevs.worldScrolls.managers.EntityQueryCache;
 import com.NguyenDevs.worldScrolls.managers.GUIManager;
+import com.NguyenDevs.worldScrolls.managers.ParticleBudget;
+import com.NguyenDevs.worldScrolls.managers.PhantomBlockRegistry;
+import com.NguyenDevs.worldScrolls.managers.PlayerSpatialIndex;
 import com.NguyenDevs.worldScrolls.managers.RecipeManager;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.protection.flags.StateFlag;
@@ -27,6 +35,13 @@ public final class WorldScrolls extends JavaPlugin {
     private ConfigManager configManager;
     private GUIManager guiManager;
     private RecipeManager recipeManager;
+    private PlayerSpatialIndex playerSpatialIndex;
+    private EntityQueryCache entityQueryCache;
+    private BlockEditQueue blockEditQueue;
+    private ParticleBudget particleBudget;
+    private PhantomBlockRegistry phantomBlockRegistry;
+    private CooldownService cooldownService;
+    private CastTicker castTicker;
     private static WorldScrolls instance;
     private WGPlugin wgPlugin;
     private boolean worldGuardReady = false;
@@ -52,6 +67,20 @@ public final class WorldScrolls extends JavaPlugin {
         recipeManager = new RecipeManager(this);
         recipeManager.loadRecipes();
         guiManager = new GUIManager(this);
+        playerSpatialIndex = new PlayerSpatialIndex(this);
+        playerSpatialIndex.start();
+        entityQueryCache = new EntityQueryCache(this);
+        entityQueryCache.start();
+        blockEditQueue = new BlockEditQueue(this);
+        blockEditQueue.start();
+        particleBudget = new ParticleBudget(this);
+        particleBudget.start();
+        phantomBlockRegistry = new PhantomBlockRegistry(this);
+        phantomBlockRegistry.start();
+        cooldownService = new CooldownService(this);
+        cooldownService.start();
+        castTicker = new CastTicker(this);
+        castTicker.start();
         registerEventListeners();
 
         registerCommands();
@@ -65,9 +94,30 @@ public final class WorldScrolls extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        if (castTicker != null) {
+            castTicker.stop();
+        }
+        if (blockEditQueue != null) {
+            blockEditQueue.stop();
+        }
         if (configManager != null) {
             configManager.saveAllConfigs();
         }
+        if (playerSpatialIndex != null) {
+            playerSpatialIndex.stop();
+        }
+        if (entityQueryCache != null) {
+            entityQueryCache.stop();
+        }
+        if (particleBudget != null) {
+            particleBudget.stop();
+        }
+        if (phantomBlockRegistry != null) {
+            phantomBlockRegistry.stop();
+        }
+        if (cooldownService != null) {
+            cooldownService.shutdown();
+        }
 
         Bukkit.getConsoleSender().sendMessage(ChatColor.translateAlternateColorCodes('&', "&7[&dWorld&5Scroll&7] &cWorld Scrolls plugin disabled!"));
         instance = null;
@@ -77,11 +127,14 @@ public final class WorldScrolls extends JavaPlugin {
         Bukkit.getPluginManager().registerEvents(new PlayerListener(this), this);
 
         scrollOfExit = new ScrollOfExit(this);
-        Bukkit.getPluginManager().registerEvents(scrollOfExit, this);
         scrollOfMeteor = new ScrollOfMeteor(this);
-        Bukkit.getPluginManager().registerEvents(scrollOfMeteor, this);
         scrollOfGravitation = new ScrollOfGravitation(this);
-        Bukkit.getPluginManager().registerEvents(scrollOfGravitation, this);
+
+        ScrollInteractListener interactListener = new ScrollInteractListener(this);
+        interactListener.register(scrollOfExit);
+        interactListener.register(scrollOfMeteor);
+        interactListener.register(scrollOfGravitation);
+        Bukkit.getPluginManager().registerEvents(interactListener, this);
     }
     
     private void registerCommands() {
@@ -112,6 +165,29 @@ public final class WorldScrolls extends JavaPlugin {
     public RecipeManager getRecipeManager() {
         return recipeManager;
     }
+    public PlayerSpatialIndex getPlayerSpatialIndex() {
+        return playerSpatialIndex;
+    }
+
+    public EntityQueryCache getEntityQueryCache() {
+        return entityQueryCache;
+    }
+    public BlockEditQueue getBlockEditQueue() {
+        return blockEditQueue;
+    }
+    public ParticleBudget getParticleBudget() {
+        return particleBudget;
+    }
+    public PhantomBlockRegistry getPhantomBlockRegistry() {
+        return phantomBlockRegistry;
+    }
+    public CooldownService getCooldownService() {
+        return cooldownService;
+    }
+
+    public CastTicker getCastTicker() {
+        return castTicker;
+    }
     public ScrollOfMeteor getScrollOfMeteor() {
         return scrollOfMeteor;
     }
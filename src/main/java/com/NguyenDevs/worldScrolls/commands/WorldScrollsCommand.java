@@ -1,7 +1,12 @@
 package com.NguyenDevs.worldScrolls.commands;
 
 import com.NguyenDevs.worldScrolls.WorldScrolls;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.MeteorAdmission;
+import com.NguyenDevs.worldScrolls.managers.BlockEditQueue;
+import com.NguyenDevs.worldScrolls.managers.CastTicker;
 import com.NguyenDevs.worldScrolls.managers.ConfigManager;
+import com.NguyenDevs.worldScrolls.managers.ParticleBudget;
+import com.NguyenDevs.worldScrolls.managers.PhantomBlockRegistry;
 import com.NguyenDevs.worldScrolls.managers.RecipeManager;
 import com.NguyenDevs.worldScrolls.utils.ColorUtils;
 import org.bukkit.*;
@@ -51,6 +56,8 @@ public class WorldScrollsCommand implements CommandExecutor {
                 return handleGiveCommand(sender, args);
             case "reload":
                 return handleReloadCommand(sender, args);
+            case "status":
+                return handleStatusCommand(sender);
             case "help":
                 sendHelpMessage(sender);
                 return true;
@@ -184,11 +191,6 @@ public class WorldScrollsCommand implements CommandExecutor {
                 targetPlayer.getInventory().addItem(scrollItem);
             }
             
-            Map<String, String> placeholders = new HashMap<>();
-            placeholders.put("amount", String.valueOf(amount));
-            placeholders.put("scroll", scrollConfig.getString("name", scrollType));
-            placeholders.put("player", targetPlayer.getName());
-            
             targetPlayer.sendMessage(ColorUtils.colorize(configManager.getMessage("prefix") + " " + configManager.getMessage("receive") + ": " + amount + "x " + scrollConfig.getString("name", scrollType) + "&a!"));
             sender.sendMessage(ColorUtils.colorize(configManager.getMessage("prefix") + " " +  configManager.getMessage("give") + ": " +  targetPlayer.getName() + " " + amount + "x " + scrollConfig.getString("name", scrollType) + "!"));
 
@@ -214,6 +216,10 @@ public class WorldScrollsCommand implements CommandExecutor {
         
         try {
             configManager.reloadConfigs();
+            plugin.getBlockEditQueue().loadSettings();
+            plugin.getParticleBudget().loadSettings();
+            plugin.getCooldownService().loadSettings();
+            plugin.getCastTicker().loadSettings();
             plugin.getScrollOfMeteor().reloadConfigurations();
             plugin.getScrollOfExit().reloadConfigurations();
             plugin.getScrollOfGravitation().reloadConfigurations();
@@ -238,6 +244,65 @@ public class WorldScrollsCommand implements CommandExecutor {
         return true;
     }
 
+    private boolean handleStatusCommand(CommandSender sender) {
+        if (!sender.hasPermission("worldscrolls.admin")) {
+            sender.sendMessage(configManager.getMessage("prefix") + " " + configManager.getMessage("no-permission"));
+            return true;
+        }
+
+        MeteorAdmission admission = plugin.getScrollOfMeteor().getAdmission();
+        BlockEditQueue edits = plugin.getBlockEditQueue();
+        ParticleBudget particles = plugin.getParticleBudget();
+
+        PhantomBlockRegistry phantoms = plugin.getPhantomBlockRegistry();
+
+        sender.sendMessage(configManager.getMessage("status.header"));
+        sender.sendMessage(configManager.getMessage("status.meteors",
+                "active", admission.getActive(),
+                "max", formatLimit(admission.getMaxActive()),
+                "queued", admission.getQueued(),
+                "admitted", admission.getAdmitted(),
+                "rejected", admission.getRejected()));
+        for (Map.Entry<UUID, Integer> entry : admission.getWorldActive().entrySet()) {
+            World world = Bukkit.getWorld(entry.getKey());
+            sender.sendMessage(configManager.getMessage("status.world",
+                    "world", world != null ? world.getName() : entry.getKey().toString(),
+                    "active", entry.getValue(),
+                    "max", formatLimit(admission.getMaxPerWorld()),
+                    "region", admission.getBusiestRegion(entry.getKey()),
+                    "region_max", formatLimit(admission.getMaxPerRegion())));
+        }
+        sender.sendMessage(configManager.getMessage("status.block-edits",
+                "pending", edits.getPending(),
+                "scheduled", edits.getScheduled(),
+                "applied", edits.getApplied()));
+        sender.sendMessage(configManager.getMessage("status.particles",
+                "spawned", particles.getSpawned(),
+                "dropped", particles.getDropped()));
+        sender.sendMessage(configManager.getMessage("status.phantom-blocks",
+                "phantom_players", phantoms.getTrackedPlayers(),
+                "phantom_blocks", phantoms.getTrackedBlocks()));
+        CastTicker casts = plugin.getCastTicker();
+        sender.sendMessage(configManager.getMessage("status.casts",
+                "active", casts.getActive(),
+                "max", formatLimit(casts.getMaxActive()),
+                "completed", casts.getCompleted(),
+                "cancelled", casts.getCancelled(),
+                "interrupted", casts.getInterrupted(),
+                "rejected", casts.getRejected(),
+                "tick_us", casts.getLastTickMicros(),
+                "peak_us", casts.getPeakTickMicros()));
+        sender.sendMessage(configManager.getMessage("status.entity-queries",
+                "scans", plugin.getEntityQueryCache().getScans(),
+                "hits", plugin.getEntityQueryCache().getHits()));
+        sender.sendMessage(configManager.getMessage("command-help.footer"));
+        return true;
+    }
+
+    private String formatLimit(int limit) {
+        return limit == Integer.MAX_VALUE ? "∞" : String.valueOf(limit);
+    }
+
     private void sendHelpMessage(CommandSender sender) {
         sender.sendMessage(configManager.getMessage("command-help.header"));
         sender.sendMessage("");
@@ -252,6 +317,7 @@ public class WorldScrollsCommand implements CommandExecutor {
             
             if (sender.hasPermission("worldscrolls.admin")) {
                 sender.sendMessage(configManager.getMessage("command-help.admin"));
+                sender.sendMessage(configManager.getMessage("command-help.status"));
             }
             if (sender.hasPermission("worldscrolls.give")) {
                 sender.sendMessage(configManager.getMessage("command-help.give"));
@@ -19,7 +19,7 @@ public class WorldScrollsTabCompleter implements TabCompleter {
     private final ConfigManager configManager;
     
     private final List<String> mainCommands = Arrays.asList(
-        "menu", "recipe", "admin", "give", "reload", "check", "help"
+        "menu", "recipe", "admin", "give", "reload", "status", "check", "help"
     );
     
     public WorldScrollsTabCompleter(WorldScrolls plugin) {
@@ -43,6 +43,7 @@ public class WorldScrollsTabCompleter implements TabCompleter {
                 case "recipe":
                 case "admin":
                 case "reload":
+                case "status":
                 case "help":
                     return Collections.emptyList();
                 default:
@@ -63,6 +64,7 @@ public class WorldScrollsTabCompleter implements TabCompleter {
         // Add admin commands if sender has permissions
         if (sender.hasPermission("worldscrolls.admin")) {
             availableCommands.add("admin");
+            availableCommands.add("status");
         }
         
         if (sender.hasPermission("worldscrolls.give")) {
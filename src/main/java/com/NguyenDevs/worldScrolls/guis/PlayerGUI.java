@@ -213,7 +213,12 @@ public class PlayerGUI extends BaseGUI {
             lore.add(configManager.getMessage("player-gui-cooldown") + "None");
         }
 
-        lore.add(configManager.getMessage("player-gui-available"));
+        long remaining = plugin.getCooldownService().getRemainingSeconds(player.getUniqueId(), scrollType);
+        if (remaining > 0) {
+            lore.add(configManager.getMessage("player-gui-on-cooldown", "remaining", formatCooldown((int) remaining)));
+        } else {
+            lore.add(configManager.getMessage("player-gui-available"));
+        }
 
         lore.add("");
 
@@ -0,0 +1,66 @@
+package com.NguyenDevs.worldScrolls.listeners;
+
+import com.NguyenDevs.worldScrolls.WorldScrolls;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.ScrollHandler;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ScrollInteractListener implements Listener {
+
+    private static final String LEGACY_PREFIX = "worldscrolls:";
+
+    private final NamespacedKey keyScrollType;
+    private final List<ScrollHandler> handlers = new ArrayList<>();
+    private final Map<String, ScrollHandler> byType = new HashMap<>();
+
+    public ScrollInteractListener(WorldScrolls plugin) {
+        this.keyScrollType = new NamespacedKey(plugin, "scroll_type");
+    }
+
+    public void register(ScrollHandler handler) {
+        handlers.add(handler);
+        byType.put(handler.getScrollType(), handler);
+    }
+
+    @EventHandler
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        ItemStack item = event.getItem();
+        if (item == null || !isScrollMaterial(item.getType())) return;
+
+        ScrollHandler handler = resolve(item);
+        if (handler == null || handler.getMaterial() != item.getType()) return;
+        handler.onInteract(event, item);
+    }
+
+    private boolean isScrollMaterial(Material type) {
+        for (int i = 0; i < handlers.size(); i++) {
+            if (handlers.get(i).getMaterial() == type) return true;
+        }
+        return false;
+    }
+
+    private ScrollHandler resolve(ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return null;
+        String type = meta.getPersistentDataContainer().get(keyScrollType, PersistentDataType.STRING);
+        if (type != null) return byType.get(type.toLowerCase());
+        return meta.hasLocalizedName() ? byLegacyName(meta.getLocalizedName()) : null;
+    }
+
+    private ScrollHandler byLegacyName(String id) {
+        if (!id.startsWith(LEGACY_PREFIX)) return null;
+        int end = id.indexOf(':', LEGACY_PREFIX.length());
+        return byType.get(id.substring(LEGACY_PREFIX.length(), end < 0 ? id.length() : end));
+    }
+}
@@ -0,0 +1,14 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls;
+
+import org.bukkit.Material;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+
+public interface ScrollHandler {
+
+    String getScrollType();
+
+    Material getMaterial();
+
+    void onInteract(PlayerInteractEvent event, ItemStack item);
+}
@@ -1,13 +1,13 @@
 package com.NguyenDevs.worldScrolls.listeners.scrolls;
 
 import com.NguyenDevs.worldScrolls.WorldScrolls;
+import com.NguyenDevs.worldScrolls.managers.CastTicker;
+import com.NguyenDevs.worldScrolls.managers.CooldownService;
 import com.NguyenDevs.worldScrolls.utils.ColorUtils;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemFlag;
@@ -15,50 +15,49 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.potion.PotionEffect;
-import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.*;
+import java.util.logging.Logger;
 
-public class ScrollOfExit implements Listener {
+public class ScrollOfExit implements ScrollHandler {
 
     private final WorldScrolls plugin;
     private final NamespacedKey KEY_DATA;
-    private final NamespacedKey KEY_SCROLL_TYPE;
     private static final String SCROLL_FILE = "scroll_of_exit";
 
-    private final Map<UUID, Long> lastUseTime = new HashMap<>();
-    private final Map<UUID, BukkitTask> activeCasts = new HashMap<>();
+    private final Map<UUID, CastTicker.Cast> activeCasts = new HashMap<>();
 
-    private ConfigurationSection scrollConfig;
-    private ConfigurationSection scrollsConfig;
+    private volatile ExitSettings settings;
 
     public ScrollOfExit(WorldScrolls plugin) {
         this.plugin = plugin;
         this.KEY_DATA = new NamespacedKey(plugin, "exit_location");
-        this.KEY_SCROLL_TYPE = new NamespacedKey(plugin, "scroll_type");
         loadConfigurations();
     }
 
     private void loadConfigurations() {
-        this.scrollConfig = plugin.getConfigManager().getScrollConfig(SCROLL_FILE);
-        this.scrollsConfig = plugin.getConfigManager().getScrolls().getConfigurationSection("scroll_of_exit");
+        this.settings = new ExitSettings(plugin.getConfigManager().getScrollConfig(SCROLL_FILE),
+                plugin.getConfigManager().getScrolls().getConfigurationSection("scroll_of_exit"), plugin.getLogger());
     }
 
     public void reloadConfigurations() {
         loadConfigurations();
     }
 
-    @EventHandler
-    public void onPlayerInteract(PlayerInteractEvent event) {
-        Player player = event.getPlayer();
-        ItemStack item = event.getItem();
-        String material = scrollConfig != null ? scrollConfig.getString("material", "PAPER") : "PAPER";
-        if (item == null || item.getType() != Material.valueOf(material) || !isScrollOfExit(item)) return;
+    @Override
+    public String getScrollType() {
+        return "scroll_of_exit";
+    }
+
+    @Override
+    public Material getMaterial() {
+        return settings.getMaterial();
+    }
 
+    @Override
+    public void onInteract(PlayerInteractEvent event, ItemStack item) {
+        Player player = event.getPlayer();
         Action action = event.getAction();
         if (action == Action.LEFT_CLICK_AIR || action == Action.LEFT_CLICK_BLOCK) {
             handleSaveExitPoint(event, player, item);
@@ -95,8 +94,7 @@ public class ScrollOfExit implements Listener {
             player.getInventory().setItemInMainHand(savedScroll);
         }
 
-        Map<String, String> placeholders = locPlaceholders(saveLocation);
-        sendMessage(player, "saved-location", placeholders);
+        sendMessage(player, "saved-location", saveLocation);
         spawnParticles(player, saveLocation, "save-particles");
         playSound(player, "save-sound");
     }
@@ -118,122 +116,94 @@ public class ScrollOfExit implements Listener {
             return;
         }
 
-        double castTime = scrollConfig != null ? scrollConfig.getDouble("cast-time", 3.0) : 3.0;
+        double castTime = settings.castTime;
         if (castTime > 0) {
-            startCastingProcess(player, item, exitLocation, castTime);
+            ExitCast cast = new ExitCast(player, item, exitLocation, castTime);
+            if (!plugin.getCastTicker().submit(cast)) {
+                plugin.getCooldownService().reset(player.getUniqueId(), getScrollType());
+                sendMessage(player, "cast-rejected");
+                playSound(player, "cancel-sound");
+                return;
+            }
+            activeCasts.put(player.getUniqueId(), cast);
+            plugin.getCastTicker().watch(player, cast, cast.castLocation, 1.0);
+            sendMessage(player, "prepare-teleport");
         } else {
             executeTeleport(player, item, exitLocation);
         }
     }
 
     private boolean isOnCooldown(Player player) {
-        int cooldownSeconds = scrollsConfig != null ? scrollsConfig.getInt("cooldown", 0) : 0;
-
-        if (cooldownSeconds > 0) {
-            long now = System.currentTimeMillis();
-            if (lastUseTime.containsKey(player.getUniqueId())) {
-                long last = lastUseTime.get(player.getUniqueId());
-                long elapsed = now - last;
-                if (elapsed < cooldownSeconds * 1000L) {
-                    long remaining = (cooldownSeconds * 1000L - elapsed) / 1000L;
-                    Map<String, String> placeholders = new HashMap<>();
-                    placeholders.put("remaining", String.valueOf(remaining));
-                    sendMessage(player, "on-cooldown", placeholders);
-                    return true;
-                }
-            }
-            lastUseTime.put(player.getUniqueId(), now);
-        }
-        return false;
+        CooldownService cooldowns = plugin.getCooldownService();
+        if (cooldowns.tryUse(player.getUniqueId(), getScrollType())) return false;
+        sendMessage(player, "on-cooldown", "remaining", cooldowns.getRemainingSeconds(player.getUniqueId(), getScrollType()));
+        return true;
     }
 
-    private void startCastingProcess(Player player, ItemStack item, Location exitLocation, double castTime) {
-        sendMessage(player, "prepare-teleport");
-        Location castLocation = player.getLocation().clone();
-
-        BukkitTask matrixTask = startMatrixEffect(player, castLocation);
-
-        BukkitTask castTask = new BukkitRunnable() {
-            int ticks = 0;
-            final int totalTicks = (int) (castTime * 20);
-
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    matrixTask.cancel();
-                    activeCasts.remove(player.getUniqueId());
-                    cancel();
-                    return;
-                }
-
-                if (player.getLocation().distance(castLocation) > 1.0) {
-                    sendMessage(player, "teleport-cancelled");
-                    playSound(player, "cancel-sound");
-                    matrixTask.cancel();
-                    activeCasts.remove(player.getUniqueId());
-                    cancel();
-                    return;
-                }
+    private final class ExitCast extends CastTicker.Cast {
+        private final Player player;
+        private final ItemStack item;
+        private final Location exitLocation;
+        private final Location castLocation;
+        private final int totalTicks;
+
+        ExitCast(Player player, ItemStack item, Location exitLocation, double castTime) {
+            this.player = player;
+            this.item = item;
+            this.exitLocation = exitLocation;
+            this.castLocation = player.getLocation();
+            this.totalTicks = (int) (castTime * 20);
+        }
 
-                ticks++;
-                if (ticks >= totalTicks) {
-                    matrixTask.cancel();
-                    executeTeleport(player, item, exitLocation);
-                    activeCasts.remove(player.getUniqueId());
-                    cancel();
-                }
+        @Override
+        protected boolean tick(int ticks) {
+            if (!player.isOnline()) {
+                release();
+                return false;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
 
-        activeCasts.put(player.getUniqueId(), castTask);
-    }
-
-    private BukkitTask startMatrixEffect(Player player, Location center) {
-        return new BukkitRunnable() {
-            double angle = 0;
-            double radius = 1.5;
-            int ticks = 0;
-            final int maxTicks = (int) (scrollConfig.getDouble("cast-time", 3.0) * 20);
-
-            @Override
-            public void run() {
-                if (!player.isOnline() || ticks >= maxTicks) {
-                    cancel();
-                    return;
-                }
+            if (ticks % 2 == 0 && ticks / 2 < totalTicks) drawMatrixEffect(castLocation, ticks / 2, totalTicks);
 
-                double currentRadius = radius * (1.0 - (double) ticks / maxTicks);
-
-                for (int i = 0; i < 3; i++) {
-                    double particleAngle = angle + (i * 120.0 * Math.PI / 180.0);
-                    double x = center.getX() + currentRadius * Math.cos(particleAngle);
-                    double z = center.getZ() + currentRadius * Math.sin(particleAngle);
-                    Location particleLoc = new Location(center.getWorld(), x, center.getY() + 0.5, z);
+            if (ticks + 1 >= totalTicks) {
+                release();
+                executeTeleport(player, item, exitLocation);
+                return false;
+            }
+            return true;
+        }
 
-                    center.getWorld().spawnParticle(Particle.ENCHANTMENT_TABLE, particleLoc, 1, 0, 0, 0, 0.1);
-                    center.getWorld().spawnParticle(Particle.PORTAL, particleLoc, 2, 0.1, 0.1, 0.1, 0.01);
-                }
+        @Override
+        protected void onInterrupt(CastTicker.Interrupt reason) {
+            if (reason == CastTicker.Interrupt.QUIT) return;
+            sendMessage(player, reason == CastTicker.Interrupt.MOVED ? "teleport-cancelled" : "teleport-interrupted");
+            playSound(player, "cancel-sound");
+        }
 
-                angle += Math.PI / 10;
-                ticks++;
-            }
-        }.runTaskTimer(plugin, 0L, 2L);
-    }
+        @Override
+        protected void onCancel() {
+            release();
+        }
 
-    private Collection<Player> getNearbyPlayers(Location center, double radius) {
-        Collection<Player> nearby = new ArrayList<>();
-        for (Player p : center.getWorld().getPlayers()) {
-            if (p.getLocation().distance(center) <= radius) {
-                nearby.add(p);
-            }
+        private void release() {
+            plugin.getCastTicker().unwatch(this);
+            activeCasts.remove(player.getUniqueId(), this);
         }
-        return nearby;
     }
 
-    private void applyDarknessEffect(Collection<Player> players) {
-        int duration = scrollConfig.getInt("darkness-duration", 200);
-        for (Player p : players) {
-            p.addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, duration, 0, false, false, false));
+    private void drawMatrixEffect(Location center, int run, int maxRuns) {
+        World world = center.getWorld();
+        if (world == null) return;
+        double angle = run * Math.PI / 10;
+        double currentRadius = 1.5 * (1.0 - (double) run / maxRuns);
+
+        for (int i = 0; i < 3; i++) {
+            double particleAngle = angle + (i * 120.0 * Math.PI / 180.0);
+            double x = center.getX() + currentRadius * Math.cos(particleAngle);
+            double z = center.getZ() + currentRadius * Math.sin(particleAngle);
+            double y = center.getY() + 0.5;
+
+            world.spawnParticle(Particle.ENCHANTMENT_TABLE, x, y, z, 1, 0, 0, 0, 0.1);
+            world.spawnParticle(Particle.PORTAL, x, y, z, 2, 0.1, 0.1, 0.1, 0.01);
         }
     }
 
@@ -256,68 +226,35 @@ public class ScrollOfExit implements Listener {
             player.getInventory().setItemInMainHand(new ItemStack(Material.AIR));
         }
 
-        Map<String, String> placeholders = locPlaceholders(exitLocation);
-        sendMessage(player, "teleported", placeholders);
+        sendMessage(player, "teleported", exitLocation);
         playSound(player, "success-sound");
     }
 
     private void playSound(Player player, String soundKey) {
-        ConfigurationSection soundConfig = scrollConfig.getConfigurationSection("sounds." + soundKey);
-        if (soundConfig != null) {
-            String soundName = soundConfig.getString("sound", "BLOCK_NOTE_BLOCK_PLING");
-            float volume = (float) soundConfig.getDouble("volume", 1.0);
-            float pitch = (float) soundConfig.getDouble("pitch", 1.0);
-
-            try {
-                Sound sound = Sound.valueOf(soundName.toUpperCase());
-                player.playSound(player.getLocation(), sound, volume, pitch);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid sound: " + soundName);
-            }
-        }
+        ScrollSettings.SoundEffect sound = settings.getSound(soundKey);
+        if (sound != null) sound.play(player);
     }
 
-
     private void spawnParticles(Player player, Location location, String particleKey) {
-        ConfigurationSection particleConfig = scrollConfig.getConfigurationSection("particles." + particleKey);
-        if (particleConfig != null) {
-            String particleName = particleConfig.getString("particle", "PORTAL");
-            int count = particleConfig.getInt("count", 50);
-            double offsetX = particleConfig.getDouble("offset-x", 1.0);
-            double offsetY = particleConfig.getDouble("offset-y", 1.0);
-            double offsetZ = particleConfig.getDouble("offset-z", 1.0);
-            double speed = particleConfig.getDouble("speed", 0.3);
-
-            try {
-                Particle particle = Particle.valueOf(particleName.toUpperCase());
-                location.getWorld().spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, speed);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid particle: " + particleName);
-            }
-        }
+        ScrollSettings.ParticleEffect particles = settings.getParticles(particleKey);
+        if (particles != null) particles.spawn(location);
     }
 
     private void sendMessage(Player player, String messageKey) {
-        sendMessage(player, messageKey, new HashMap<>());
+        String prefix = plugin.getConfigManager().getScrollMessage(SCROLL_FILE, "prefix");
+        player.sendMessage(prefix + " " + plugin.getConfigManager().getScrollMessage(SCROLL_FILE, messageKey));
     }
 
-    private void sendMessage(Player player, String messageKey, Map<String, String> placeholders) {
-        String prefix = plugin.getConfigManager().getScrollMessage(SCROLL_FILE, "prefix");
-        String message = plugin.getConfigManager().getScrollMessage(SCROLL_FILE, messageKey, placeholders);
-        player.sendMessage(ColorUtils.colorize(prefix + " " + message));
+    private void sendMessage(Player player, String messageKey, Location l) {
+        sendMessage(player, messageKey, "world", l.getWorld().getName(), "x", l.getBlockX(), "y", l.getBlockY(), "z", l.getBlockZ());
     }
 
-    private boolean isScrollOfExit(ItemStack item) {
-        String material = scrollConfig != null ? scrollConfig.getString("material", "PAPER") : "PAPER";
-        if (item == null || item.getType() != Material.valueOf(material)) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return false;
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
-        return "scroll_of_exit".equalsIgnoreCase(
-                pdc.get(KEY_SCROLL_TYPE, PersistentDataType.STRING)
-        );
+    private void sendMessage(Player player, String messageKey, Object... keyValues) {
+        String prefix = plugin.getConfigManager().getScrollMessage(SCROLL_FILE, "prefix");
+        player.sendMessage(prefix + " " + plugin.getConfigManager().getScrollMessage(SCROLL_FILE, messageKey, keyValues));
     }
 
+
     private boolean hasSavedLocation(ItemStack item) {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return false;
@@ -401,12 +338,12 @@ public class ScrollOfExit implements Listener {
         return null;
     }
 
-    private Map<String, String> locPlaceholders(Location l) {
-        Map<String, String> ph = new HashMap<>();
-        ph.put("world", l.getWorld().getName());
-        ph.put("x", String.valueOf(l.getBlockX()));
-        ph.put("y", String.valueOf(l.getBlockY()));
-        ph.put("z", String.valueOf(l.getBlockZ()));
-        return ph;
+    private static final class ExitSettings extends ScrollSettings {
+        private final double castTime;
+
+        ExitSettings(ConfigurationSection scrollConfig, ConfigurationSection scrollsEntry, Logger logger) {
+            super("scroll_of_exit", scrollConfig, scrollsEntry, logger);
+            this.castTime = scrollConfig != null ? scrollConfig.getDouble("cast-time", 3.0) : 3.0;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,65 +1,70 @@
 package com.NguyenDevs.worldScrolls.listeners.scrolls;
 
 import com.NguyenDevs.worldScrolls.WorldScrolls;
-import com.NguyenDevs.worldScrolls.utils.ColorUtils;
+import com.NguyenDevs.worldScrolls.managers.CastTicker;
+import com.NguyenDevs.worldScrolls.managers.CooldownService;
+import com.NguyenDevs.worldScrolls.managers.EntityQueryCache;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.gravitation.GravityGridRenderer;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.gravitation.PullForceAccumulator;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.entity.Monster;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.*;
+import java.util.logging.Logger;
 
-public class ScrollOfGravitation implements Listener {
+public class ScrollOfGravitation implements ScrollHandler {
 
     private final WorldScrolls plugin;
-    private final NamespacedKey KEY_SCROLL_TYPE;
     private static final String SCROLL_FILE = "scroll_of_gravitation";
 
-    private final Map<UUID, Long> lastUseTime = new HashMap<>();
-    private final Map<UUID, BukkitTask> activeCasts = new HashMap<>();
+    private static final ScrollSettings.SoundEffect DEFAULT_SOUND = new ScrollSettings.SoundEffect(Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.0f);
+    private static final ScrollSettings.SoundEffect PULL_ENEMIES_SOUND = new ScrollSettings.SoundEffect(Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.0f, 1.0f);
 
-    private ConfigurationSection scrollConfig;
-    private ConfigurationSection scrollsConfig;
+    private final Map<UUID, CastTicker.Cast> activeCasts = new HashMap<>();
+    private final EntityQueryCache.View nearby = new EntityQueryCache.View();
+    private final PullForceAccumulator forces;
+
+    private volatile GravitationSettings settings;
 
     public ScrollOfGravitation(WorldScrolls plugin) {
         this.plugin = plugin;
-        this.KEY_SCROLL_TYPE = new NamespacedKey(plugin, "scroll_type");
+        this.forces = new PullForceAccumulator();
+        plugin.getCastTicker().addPostTick(forces::flush);
         loadConfigurations();
     }
 
     private void loadConfigurations() {
-        this.scrollConfig = plugin.getConfigManager().getScrollConfig(SCROLL_FILE);
-        this.scrollsConfig = plugin.getConfigManager().getScrolls().getConfigurationSection("scroll_of_gravitation");
+        this.settings = new GravitationSettings(plugin.getConfigManager().getScrollConfig(SCROLL_FILE),
+                plugin.getConfigManager().getScrolls().getConfigurationSection("scroll_of_gravitation"), plugin.getLogger());
     }
 
     public void reloadConfigurations() {
         loadConfigurations();
     }
 
-    @EventHandler
-    public void onPlayerInteract(PlayerInteractEvent event) {
-        Player player = event.getPlayer();
-        ItemStack item = event.getItem();
-        String material = scrollConfig != null ? scrollConfig.getString("material", "PAPER") : "PAPER";
-        if (item == null || item.getType() != Material.valueOf(material) || !isScrollOfGravitation(item)) return;
+    @Override
+    public String getScrollType() {
+        return "scroll_of_gravitation";
+    }
+
+    @Override
+    public Material getMaterial() {
+        return settings.getMaterial();
+    }
 
+    @Override
+    public void onInteract(PlayerInteractEvent event, ItemStack item) {
+        Player player = event.getPlayer();
         Action action = event.getAction();
         if (action == Action.LEFT_CLICK_AIR || action == Action.LEFT_CLICK_BLOCK) {
             handlePullEnemies(event, player, item);
@@ -83,99 +88,42 @@ public class ScrollOfGravitation implements Listener {
             return;
         }
 
-        double castTime = scrollConfig != null ? scrollConfig.getDouble("cast-time", 5.0) : 5.0;
+        GravitationSettings s = settings;
+        double castTime = s.castTime;
         if (castTime <= 0) castTime = 0.1;
 
+        PullEnemiesCast cast = new PullEnemiesCast(player, item, targetInfo, s, castTime);
+        if (!submit(player, cast)) return;
+        activeCasts.put(player.getUniqueId(), cast);
+        plugin.getCastTicker().watch(player, cast, cast.castLocation, 1.0);
         sendMessage(player, "prepare-pull-enemies");
-        Location castLocation = player.getLocation().clone();
-
-        BukkitTask gravitationTask = startGravitationEffect(player, castLocation);
-        BukkitTask targetGridTask = startTargetGridEffect(targetInfo, castTime, 1.0);
-
-        double pullRange = scrollConfig != null ? scrollConfig.getDouble("pull-range", 8.0) : 8.0;
-        double pullTickStrength = scrollConfig != null ? scrollConfig.getDouble("cast-pull-strength", 1.2) : 1.2;
-
-        double finalCastTime = castTime;
-        BukkitTask pullTask = new BukkitRunnable() {
-            int ticks = 0;
-            final int totalTicks = (int) (finalCastTime * 20 + 5 * 20);
-
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    cancel();
-                    return;
-                }
-                if (player.getLocation().distance(castLocation) > 1.0) {
-                    sendMessage(player, "pull-cancelled");
-                    playSound(player, "cancel-sound");
-                    gravitationTask.cancel();
-                    targetGridTask.cancel();
-                    activeCasts.remove(player.getUniqueId());
-                    cancel();
-                    return;
-                }
-                double depthMult;
-                if (ticks < 20) {
-                    depthMult = 0.0;
-                } else if (ticks < 40) {
-                    depthMult = Math.pow((ticks - 20.0) / 20.0, 0.5);
-                } else if (ticks < 60) {
-                    depthMult = (ticks - 40.0) / 20.0;
-                } else {
-                    depthMult = 1.0;
-                }
-
-                Location dynamicTarget = targetInfo.location.clone();
-                Vector depthOffset = targetInfo.normal.clone().multiply(-10.0 * depthMult);
-                dynamicTarget.add(depthOffset);
-
-                if (ticks >= 150) {
-                    pullEntitiesTowards(dynamicTarget, pullRange, pullTickStrength, player, depthMult, ticks, targetInfo, totalTicks);
-                }
-
-                if (ticks % 15 == 0) {
-                    player.getWorld().playSound(
-                            dynamicTarget,
-                            Sound.BLOCK_BEACON_POWER_SELECT,
-                            0.5f,
-                            0.1f
-                    );
-                }
-
-                ticks++;
-                if (ticks >= totalTicks) {
-                    finishEnemiesCast(player, item, targetInfo, pullRange);
-                    cancel();
-                }
-            }
-
-            @Override
-            public synchronized void cancel() throws IllegalStateException {
-                super.cancel();
-                gravitationTask.cancel();
-                targetGridTask.cancel();
-                activeCasts.remove(player.getUniqueId());
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+    }
 
-        activeCasts.put(player.getUniqueId(), pullTask);
+    private boolean submit(Player player, CastTicker.Cast cast) {
+        if (!plugin.getCastTicker().submit(cast)) {
+            plugin.getCooldownService().reset(player.getUniqueId(), getScrollType());
+            sendMessage(player, "cast-rejected");
+            playSound(player, "cancel-sound");
+            return false;
+        }
+        return true;
     }
 
     private void finishEnemiesCast(Player player, ItemStack item, TargetInfo targetInfo, double pullRange) {
         World w = targetInfo.location.getWorld();
         if (w == null) return;
 
+        forces.flush();
         List<LivingEntity> enemies = new ArrayList<>();
-        for (Entity entity : w.getNearbyEntities(targetInfo.location, pullRange, pullRange, pullRange)) {
-            if (entity instanceof Monster || (entity instanceof LivingEntity && entity != player && !(entity instanceof Player))) {
-                enemies.add((LivingEntity) entity);
-            }
+        plugin.getEntityQueryCache().getLivingEntities(targetInfo.location, pullRange, nearby);
+        for (int i = 0; i < nearby.size(); i++) {
+            LivingEntity entity = nearby.get(i);
+            if (entity != player && !(entity instanceof Player)) enemies.add(entity);
         }
+        nearby.clear();
 
         for (LivingEntity e : enemies) {
-            SoundConfig sc = getSoundConfig("pull-enemies-sound", "ENTITY_PLAYER_ATTACK_SWEEP", 1.0f, 1.0f);
-            w.playSound(e.getLocation(), sc.sound, sc.volume, sc.pitch);
+            settings.getSound("pull-enemies-sound", PULL_ENEMIES_SOUND).play(w, e.getLocation());
             double hp = e.getHealth();
             double dmg = Math.max(0.0, hp / 3.0);
             if (dmg > 0) e.damage(dmg, player);
@@ -202,9 +150,9 @@ public class ScrollOfGravitation implements Listener {
         );
 
         playSound(player, "success-sound");
-        Map<String, String> placeholders = locPlaceholders(targetInfo.location);
-        placeholders.put("enemy-count", String.valueOf(enemies.size()));
-        sendMessage(player, "pulled-enemies", placeholders);
+        Location l = targetInfo.location;
+        sendMessage(player, "pulled-enemies", "world", l.getWorld().getName(),
+                "x", l.getBlockX(), "y", l.getBlockY(), "z", l.getBlockZ(), "enemy-count", enemies.size());
         consumeScroll(player, item);
     }
 
@@ -219,11 +167,10 @@ public class ScrollOfGravitation implements Listener {
             return;
         }
 
-        double maxRange = scrollConfig != null ? scrollConfig.getDouble("max-range", 50.0) : 50.0;
+        GravitationSettings s = settings;
+        double maxRange = s.maxRange;
         if (player.getLocation().distance(targetInfo.location) > maxRange) {
-            Map<String, String> placeholders = new HashMap<>();
-            placeholders.put("max-range", String.valueOf((int) maxRange));
-            sendMessage(player, "too-far", placeholders);
+            sendMessage(player, "too-far", "max-range", (int) maxRange);
             return;
         }
 
@@ -232,11 +179,15 @@ public class ScrollOfGravitation implements Listener {
             return;
         }
 
-        double castTime = scrollConfig != null ? scrollConfig.getDouble("cast-time", 2.0) : 2.0;
+        double castTime = s.castTime;
+        PullSelfCast cast = new PullSelfCast(player, item, targetInfo, castTime);
+        if (!submit(player, cast)) return;
         if (castTime > 0) {
-            startPullSelfProcess(player, item, targetInfo, castTime);
+            activeCasts.put(player.getUniqueId(), cast);
+            plugin.getCastTicker().watch(player, cast, cast.castLocation, Double.POSITIVE_INFINITY);
+            sendMessage(player, "prepare-pull-self");
         } else {
-            executePullSelf(player, item, targetInfo.location);
+            cast.beginPull(0);
         }
     }
 
@@ -310,516 +261,357 @@ public class ScrollOfGravitation implements Listener {
     }
 
     private boolean isOnCooldown(Player player) {
-        int cooldownSeconds = scrollsConfig != null ? scrollsConfig.getInt("cooldown", 0) : 0;
-
-        if (cooldownSeconds > 0) {
-            long now = System.currentTimeMillis();
-            if (lastUseTime.containsKey(player.getUniqueId())) {
-                long last = lastUseTime.get(player.getUniqueId());
-                long elapsed = now - last;
-                if (elapsed < cooldownSeconds * 1000L) {
-                    long remaining = (cooldownSeconds * 1000L - elapsed) / 1000L;
-                    Map<String, String> placeholders = new HashMap<>();
-                    placeholders.put("remaining", String.valueOf(remaining));
-                    sendMessage(player, "on-cooldown", placeholders);
-                    return true;
-                }
-            }
-            lastUseTime.put(player.getUniqueId(), now);
-        }
-        return false;
+        CooldownService cooldowns = plugin.getCooldownService();
+        if (cooldowns.tryUse(player.getUniqueId(), getScrollType())) return false;
+        sendMessage(player, "on-cooldown", "remaining", cooldowns.getRemainingSeconds(player.getUniqueId(), getScrollType()));
+        return true;
     }
 
-    private void startPullSelfProcess(Player player, ItemStack item, TargetInfo targetInfo, double castTime) {
-        sendMessage(player, "prepare-pull-self");
-        Location castLocation = player.getLocation().clone();
-
-        BukkitTask gravitationTask = startGravitationEffect(player, castLocation);
-        BukkitTask targetGridTask = startTargetGridEffect(targetInfo, castTime, 1.0 / 3.0);
-
-        BukkitTask castTask = new BukkitRunnable() {
-            int ticks = 0;
-            final int totalTicks = (int) (castTime * 20);
-
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    gravitationTask.cancel();
-                    targetGridTask.cancel();
-                    activeCasts.remove(player.getUniqueId());
-                    cancel();
-                    return;
-                }
+    private final class PullEnemiesCast extends CastTicker.Cast {
+        private final Player player;
+        private final ItemStack item;
+        private final TargetInfo targetInfo;
+        private final Location castLocation;
+        private final double pullRange;
+        private final double pullStrength;
+        private final int totalTicks;
+        private final int effectRuns;
+        private final int gridRuns;
+        private final GravityGridRenderer grid;
+
+        PullEnemiesCast(Player player, ItemStack item, TargetInfo targetInfo, GravitationSettings s, double castTime) {
+            this.player = player;
+            this.item = item;
+            this.targetInfo = targetInfo;
+            this.castLocation = player.getLocation();
+            this.pullRange = s.pullRange;
+            this.pullStrength = s.castPullStrength;
+            this.totalTicks = (int) (castTime * 20 + 5 * 20);
+            this.effectRuns = (int) (s.castTime * 20);
+            this.gridRuns = (int) (castTime * 20);
+            this.grid = createGrid(targetInfo, 1.0, s.pullRange);
+        }
 
-                ticks++;
-                if (ticks >= totalTicks) {
-                    gravitationTask.cancel();
-                    targetGridTask.cancel();
-                    executePullSelf(player, item, targetInfo.location);
-                    activeCasts.remove(player.getUniqueId());
-                    cancel();
-                }
+        @Override
+        protected boolean tick(int ticks) {
+            if (!player.isOnline()) {
+                release();
+                return false;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
-
-        activeCasts.put(player.getUniqueId(), castTask);
-    }
 
-    private BukkitTask startGravitationEffect(Player player, Location center) {
-        return new BukkitRunnable() {
-            double angle = 0;
-            int ticks = 0;
-            final int maxTicks = (int) (scrollConfig.getDouble("cast-time", 2.0) * 20);
-
-            @Override
-            public void run() {
-                if (!player.isOnline() || ticks >= maxTicks) {
-                    cancel();
-                    return;
-                }
-
-                for (int i = 0; i < 3; i++) {
-                    double particleAngle = angle + (i * 120.0 * Math.PI / 180.0);
-                    double x = center.getX() + 2.0 * Math.cos(particleAngle);
-                    double z = center.getZ() + 2.0 * Math.sin(particleAngle);
-                    Location particleLoc = new Location(center.getWorld(), x, center.getY() + 0.5, z);
+            if (ticks % 2 == 0 && ticks / 2 < effectRuns) drawGravitationEffect(castLocation, ticks / 2);
+            if (ticks % 3 == 0 && ticks / 3 < gridRuns) drawTargetGrid(grid, targetInfo, ticks / 3, gridRuns, false);
 
-                    center.getWorld().spawnParticle(Particle.SPELL_WITCH, particleLoc, 1, 0, 0, 0, 0.1);
-                    center.getWorld().spawnParticle(Particle.CRIT_MAGIC, particleLoc, 1, 0.1, 0.1, 0.1, 0.01);
-                }
-
-                angle += Math.PI / 8;
-                ticks++;
+            double depthMult;
+            if (ticks < 20) {
+                depthMult = 0.0;
+            } else if (ticks < 40) {
+                depthMult = Math.pow((ticks - 20.0) / 20.0, 0.5);
+            } else if (ticks < 60) {
+                depthMult = (ticks - 40.0) / 20.0;
+            } else {
+                depthMult = 1.0;
             }
-        }.runTaskTimer(plugin, 0L, 2L);
-    }
-
-    private BukkitTask startTargetGridEffect(TargetInfo targetInfo, double duration, double scale) {
-        return new BukkitRunnable() {
-            int ticks = 0;
-            final int maxTicks = (int) (duration * 20);
-            final double pullRange = scrollConfig.getDouble("pull-range", 8.0);
-            double baseMaxRadius = (pullRange / 2.0) * scale;
-            double baseMinRadius = 0.8 * scale;
-            double baseHoleRadius = 0.2 * baseMaxRadius;
-
-            final boolean isRightClick = scale < 1.0;
-
-            @Override
-            public void run() {
-                if (ticks >= maxTicks) {
-                    cancel();
-                    return;
-                }
-
-                if (isRightClick) {
-                    baseMaxRadius = 2.0;
-                    baseMinRadius = 0.8;
-                    baseHoleRadius = 0.2 * baseMaxRadius;
-                    double prog = (double) ticks / (maxTicks);
-                    if (ticks < 20) {
-                        prog = 0.0;
-                    } else {
-                        prog = (ticks - 20.0) / (maxTicks - 20.0);
-                    }
-                    drawGrid(targetInfo, baseMinRadius, baseMaxRadius, prog, ticks, baseHoleRadius);
-                } else {
-                    if (ticks < 20) {
-                        createPointCluster(targetInfo);
-                    } else if (ticks < 40) {
-                        double prog = Math.pow((ticks - 20.0) / 20.0, 0.5);
-                        double currentMaxRadius = baseMaxRadius * prog;
-                        double currentMinRadius = baseMinRadius * prog;
-                        double currentHoleRadius = 0.2 * currentMaxRadius;
-                        drawGrid(targetInfo, currentMinRadius, currentMaxRadius, 0.0, ticks, currentHoleRadius);
-                    } else if (ticks < 60) {
-                        double prog = (ticks - 40.0) / 20.0;
-                        drawGrid(targetInfo, baseMinRadius, baseMaxRadius, prog, ticks, baseHoleRadius);
-                    } else {
-                        drawGrid(targetInfo, baseMinRadius, baseMaxRadius, 1.0, ticks, baseHoleRadius);
-                    }
-                }
 
-                ticks++;
+            if (ticks >= 150) {
+                pullEntitiesTowards(pullRange, pullStrength, player, depthMult, ticks, targetInfo, totalTicks);
             }
 
-            private void drawGrid(TargetInfo targetInfo, double minRadius, double maxRadius, double depthMult, int ticks, double holeRadius) {
-                int ringCount = isRightClick ? 8 : 12;
-                for (int ring = 1; ring <= ringCount; ring++) {
-                    double normalizedRing = (double) ring / ringCount;
-                    double radius = minRadius + (maxRadius - minRadius) * (normalizedRing * normalizedRing * 0.7 + normalizedRing * 0.3);
-                    drawThinCircleOnPlane(targetInfo, radius, 0.08, depthMult, holeRadius, maxRadius);
-                }
-
-                for (int i = 0; i < 16; i++) {
-                    double angle = i * Math.PI / 8.0;
-                    drawRadialLineWithDepth(targetInfo, angle, maxRadius, minRadius, 0.12, depthMult, holeRadius, maxRadius);
-                }
-                createBlackHoleEdge(targetInfo, ticks, minRadius / 0.8);
-
-                drawCrossLinesWithDepth(targetInfo, maxRadius, minRadius, 0.15, depthMult, holeRadius, maxRadius);
-
-                if (ticks % 10 == 0) {
-                    double holeEdgeRadius = minRadius;
-
-                    for (int i = 0; i < 8; i++) {
-                        double angle = i * Math.PI / 4 + ticks * 0.05;
-                        double x = holeEdgeRadius * Math.cos(angle);
-                        double z = holeEdgeRadius * Math.sin(angle);
-
-                        Vector normal = targetInfo.normal;
-                        Vector u, v;
-                        if (targetInfo.face == BlockFace.UP || targetInfo.face == BlockFace.DOWN) {
-                            u = new Vector(1, 0, 0);
-                            v = new Vector(0, 0, 1);
-                        } else {
-                            if (targetInfo.face == BlockFace.EAST || targetInfo.face == BlockFace.WEST) {
-                                u = new Vector(0, 1, 0);
-                                v = new Vector(0, 0, 1);
-                            } else {
-                                u = new Vector(1, 0, 0);
-                                v = new Vector(0, 1, 0);
-                            }
-                        }
-
-                        Vector localPos = u.clone().multiply(x).add(v.clone().multiply(z));
-                        Vector depthOffset = normal.clone().multiply(-1.2 * depthMult);
-                        Location edgePoint = targetInfo.location.clone().add(localPos).add(depthOffset);
-
-                        targetInfo.location.getWorld().spawnParticle(Particle.REDSTONE, edgePoint, 1,
-                                0.05, 0.05, 0.05, 0, new Particle.DustOptions(Color.fromRGB(0, 255, 255), 0.8f));
-                    }
-                }
+            if (ticks % 15 == 0) {
+                Location dynamicTarget = targetInfo.location.clone().add(targetInfo.normal.clone().multiply(-10.0 * depthMult));
+                player.getWorld().playSound(dynamicTarget, Sound.BLOCK_BEACON_POWER_SELECT, 0.5f, 0.1f);
             }
-        }.runTaskTimer(plugin, 0L, 3L);
-    }
 
-    private void createPointCluster(TargetInfo targetInfo) {
-        Random rand = new Random();
-        for (int i = 0; i < 20; i++) {
-            double offsetX = (rand.nextDouble() - 0.5) * 0.2;
-            double offsetY = (rand.nextDouble() - 0.5) * 0.2;
-            double offsetZ = (rand.nextDouble() - 0.5) * 0.2;
-            Location pointLoc = targetInfo.location.clone().add(offsetX, offsetY, offsetZ);
-            targetInfo.location.getWorld().spawnParticle(Particle.REDSTONE, pointLoc, 1,
-                    0, 0, 0, 0, new Particle.DustOptions(Color.fromRGB(10, 10, 10), 0.25f));
+            if (ticks + 1 >= totalTicks) {
+                release();
+                finishEnemiesCast(player, item, targetInfo, pullRange);
+                return false;
+            }
+            return true;
         }
-    }
-
-    private void drawThinCircleOnPlane(TargetInfo targetInfo, double radius, double density, double depthMult, double holeRadius, double maxRadius) {
-        double circumference = 2 * Math.PI * radius;
-        int points = Math.max(8, (int) (circumference / density));
 
-        Vector normal = targetInfo.normal;
-        Vector u, v;
-
-        if (targetInfo.face == BlockFace.UP || targetInfo.face == BlockFace.DOWN) {
-            u = new Vector(1, 0, 0);
-            v = new Vector(0, 0, 1);
-        } else {
-            if (targetInfo.face == BlockFace.EAST || targetInfo.face == BlockFace.WEST) {
-                u = new Vector(0, 1, 0);
-                v = new Vector(0, 0, 1);
-            } else {
-                u = new Vector(1, 0, 0);
-                v = new Vector(0, 1, 0);
-            }
+        @Override
+        protected void onInterrupt(CastTicker.Interrupt reason) {
+            if (reason == CastTicker.Interrupt.QUIT) return;
+            sendMessage(player, reason == CastTicker.Interrupt.MOVED ? "pull-cancelled" : "pull-interrupted");
+            playSound(player, "cancel-sound");
         }
 
-        for (int i = 0; i < points; i++) {
-            double angle = (2 * Math.PI * i) / points;
-            double localX = radius * Math.cos(angle);
-            double localY = radius * Math.sin(angle);
+        @Override
+        protected void onCancel() {
+            release();
+        }
 
-            double depth = (holeRadius / Math.max(radius, 0.1)) * 6.0 * depthMult;
+        private void release() {
+            plugin.getCastTicker().unwatch(this);
+            activeCasts.remove(player.getUniqueId(), this);
+        }
+    }
 
-            Vector localPos = u.clone().multiply(localX).add(v.clone().multiply(localY));
-            Vector depthOffset = normal.clone().multiply(-depth);
-            Location point = targetInfo.location.clone().add(localPos).add(depthOffset);
+    private enum PullSelfStage {
+        CASTING, PULLING, VORTEX
+    }
 
-            Color ringColor = Color.fromRGB(
-                    (int) (10 + radius * 3),
-                    (int) (10 + radius * 3),
-                    (int) (10 + radius * 3)
-            );
+    private final class PullSelfCast extends CastTicker.Cast {
+        private static final int PULL_TICKS = 60;
+        private static final int VORTEX_RUNS = 40;
+
+        private final Player player;
+        private final ItemStack item;
+        private final TargetInfo targetInfo;
+        private final Location castLocation;
+        private final int castTicks;
+        private final GravityGridRenderer grid;
+        private PullSelfStage stage = PullSelfStage.CASTING;
+        private int stageStart;
+
+        PullSelfCast(Player player, ItemStack item, TargetInfo targetInfo, double castTime) {
+            this.player = player;
+            this.item = item;
+            this.targetInfo = targetInfo;
+            this.castLocation = player.getLocation();
+            this.castTicks = (int) (castTime * 20);
+            this.grid = castTime > 0 ? createGrid(targetInfo, 1.0 / 3.0, settings.pullRange) : null;
+        }
 
-            targetInfo.location.getWorld().spawnParticle(Particle.REDSTONE, point, 1,
-                    0, 0, 0, 0, new Particle.DustOptions(ringColor, 0.25f));
+        @Override
+        protected boolean tick(int ticks) {
+            switch (stage) {
+                case CASTING:
+                    return tickCasting(ticks);
+                case PULLING:
+                    return tickPulling(ticks - stageStart);
+                default:
+                    return tickVortex(ticks - stageStart);
+            }
         }
-    }
 
-    private void drawRadialLineWithDepth(TargetInfo targetInfo, double angle, double maxLength, double minLength, double density, double depthMult, double holeRadius, double maxRadius) {
-        int points = (int) ((maxLength - minLength) / density);
+        private boolean tickCasting(int ticks) {
+            if (!player.isOnline()) {
+                release();
+                return false;
+            }
+            if (ticks % 2 == 0 && ticks / 2 < castTicks) drawGravitationEffect(castLocation, ticks / 2);
+            if (ticks % 3 == 0 && ticks / 3 < castTicks) drawTargetGrid(grid, targetInfo, ticks / 3, castTicks, true);
 
-        Vector normal = targetInfo.normal;
-        Vector u, v;
-        if (targetInfo.face == BlockFace.UP || targetInfo.face == BlockFace.DOWN) {
-            u = new Vector(1, 0, 0);
-            v = new Vector(0, 0, 1);
-        } else {
-            if (targetInfo.face == BlockFace.EAST || targetInfo.face == BlockFace.WEST) {
-                u = new Vector(0, 1, 0);
-                v = new Vector(0, 0, 1);
-            } else {
-                u = new Vector(1, 0, 0);
-                v = new Vector(0, 1, 0);
+            if (ticks + 1 >= castTicks) {
+                release();
+                beginPull(ticks + 1);
             }
+            return true;
         }
 
-        for (int i = 1; i <= points; i++) {
-            double distance = minLength + ((maxLength - minLength) * i) / points;
-            double localX = distance * Math.cos(angle);
-            double localY = distance * Math.sin(angle);
-
-            double depth = (holeRadius / Math.max(distance, 0.1)) * 6.0 * depthMult;
+        void beginPull(int startTick) {
+            Location target = targetInfo.location;
+            World world = target.getWorld();
+            if (world != null) world.getChunkAt(target).load();
 
-            Vector localPos = u.clone().multiply(localX).add(v.clone().multiply(localY));
-            Vector depthOffset = normal.clone().multiply(-depth);
-            Location point = targetInfo.location.clone().add(localPos).add(depthOffset);
+            spawnParticles(player, player.getLocation(), "pull-self-particles");
+            playSound(player, "pull-self-sound");
+            consumeScroll(player, item);
 
-            targetInfo.location.getWorld().spawnParticle(Particle.REDSTONE, point, 1,
-                    0, 0, 0, 0, new Particle.DustOptions(Color.fromRGB(15, 15, 15), 0.25f));
+            stage = PullSelfStage.PULLING;
+            stageStart = startTick;
         }
-    }
-
-    private void createBlackHoleEdge(TargetInfo targetInfo, int ticks, double scale) {
-        Vector normal = targetInfo.normal;
-        double holeRadius = 0.2 * scale;
 
-        for (int i = 0; i < 12; i++) {
-            double angle = i * Math.PI / 6 + ticks * 0.08;
-            double x = holeRadius * Math.cos(angle);
-            double z = holeRadius * Math.sin(angle);
-
-            Vector u, v;
-            if (targetInfo.face == BlockFace.UP || targetInfo.face == BlockFace.DOWN) {
-                u = new Vector(1, 0, 0);
-                v = new Vector(0, 0, 1);
-            } else {
-                if (targetInfo.face == BlockFace.EAST || targetInfo.face == BlockFace.WEST) {
-                    u = new Vector(0, 1, 0);
-                    v = new Vector(0, 0, 1);
-                } else {
-                    u = new Vector(1, 0, 0);
-                    v = new Vector(0, 1, 0);
+        private boolean tickPulling(int pullTicks) {
+            Location target = targetInfo.location;
+            if (!player.isOnline() || pullTicks >= PULL_TICKS) {
+                if (player.isOnline()) {
+                    player.teleport(target);
+                    spawnParticles(player, target, "target-particles");
+                    sendMessage(player, "pulled-self", target);
+                    playSound(player, "success-sound");
                 }
+                return false;
             }
 
-            Vector localPos = u.clone().multiply(x).add(v.clone().multiply(z));
-            Vector depthOffset = normal.clone().multiply(-1.5);
-            Location edgePoint = targetInfo.location.clone().add(localPos).add(depthOffset);
-
-            targetInfo.location.getWorld().spawnParticle(Particle.REDSTONE, edgePoint, 1,
-                    0.05, 0.05, 0.05, 0, new Particle.DustOptions(Color.fromRGB(3, 3, 3), 0.25f));
-
-            if (ticks % 6 == 0) {
-                double innerAngle = angle + Math.PI / 12;
-                double innerRadius = holeRadius * 0.7;
-                double innerX = innerRadius * Math.cos(innerAngle);
-                double innerZ = innerRadius * Math.sin(innerAngle);
-
-                Vector innerPos = u.clone().multiply(innerX).add(v.clone().multiply(innerZ));
-                Vector innerDepthOffset = normal.clone().multiply(-1.3);
-                Location innerPoint = targetInfo.location.clone().add(innerPos).add(innerDepthOffset);
-
-                targetInfo.location.getWorld().spawnParticle(Particle.SPELL_WITCH, innerPoint, 1,
-                        0.02, 0.02, 0.02, 0.001);
+            Location currentLoc = player.getLocation();
+            if (currentLoc.getWorld() != target.getWorld()) return false;
+            double distance = currentLoc.distance(target);
+            if (distance < 2.0) {
+                player.teleport(target);
+                sendMessage(player, "pulled-self", target);
+                playSound(player, "success-sound");
+                stage = PullSelfStage.VORTEX;
+                stageStart += pullTicks + 1;
+                return true;
             }
-        }
-    }
 
-    private void drawCrossLinesWithDepth(TargetInfo targetInfo, double maxLength, double minLength, double density, double depthMult, double holeRadius, double maxRadius) {
-        Vector normal = targetInfo.normal;
-        Vector u, v;
+            Vector direction = target.toVector().subtract(currentLoc.toVector());
+            direction.setY(direction.getY() + 0.1);
+            double strength = Math.min(distance * 0.4, 3.5);
+            player.setVelocity(direction.normalize().multiply(strength));
 
-        if (targetInfo.face == BlockFace.UP || targetInfo.face == BlockFace.DOWN) {
-            u = new Vector(1, 0, 0);
-            v = new Vector(0, 0, 1);
-        } else {
-            if (targetInfo.face == BlockFace.EAST || targetInfo.face == BlockFace.WEST) {
-                u = new Vector(0, 1, 0);
-                v = new Vector(0, 0, 1);
-            } else {
-                u = new Vector(1, 0, 0);
-                v = new Vector(0, 1, 0);
+            if (pullTicks % 2 == 0) {
+                spawnParticles(player, currentLoc, "pull-self-particles");
             }
+            return true;
         }
 
-        Vector[] directions = {u, u.clone().multiply(-1), v, v.clone().multiply(-1)};
-
-        for (Vector direction : directions) {
-            int points = (int) ((maxLength - minLength) / density);
-            for (int i = 1; i <= points; i++) {
-                double distance = minLength + ((maxLength - minLength) * i) / points;
-
-                double depth = (holeRadius / Math.max(distance, 0.1)) * 6.0 * depthMult;
+        private boolean tickVortex(int vortexTicks) {
+            if (vortexTicks % 2 != 0) return true;
+            int run = vortexTicks / 2;
+            if (run >= VORTEX_RUNS) return false;
+            drawGravityVortex(targetInfo.location, run, VORTEX_RUNS);
+            return true;
+        }
 
-                Vector pos = direction.clone().multiply(distance);
+        @Override
+        protected void onInterrupt(CastTicker.Interrupt reason) {
+            if (reason == CastTicker.Interrupt.QUIT) return;
+            sendMessage(player, "pull-interrupted");
+            playSound(player, "cancel-sound");
+        }
 
-                Vector depthOffset = normal.clone().multiply(-depth);
-                Location point = targetInfo.location.clone().add(pos).add(depthOffset);
+        @Override
+        protected void onCancel() {
+            release();
+        }
 
-                targetInfo.location.getWorld().spawnParticle(Particle.REDSTONE, point, 1,
-                        0, 0, 0, 0, new Particle.DustOptions(Color.fromRGB(20, 20, 20), 0.25f));
-            }
+        private void release() {
+            plugin.getCastTicker().unwatch(this);
+            activeCasts.remove(player.getUniqueId(), this);
         }
     }
 
-    private void executePullSelf(Player player, ItemStack item, Location targetLocation) {
-        World world = targetLocation.getWorld();
-        if (world != null) world.getChunkAt(targetLocation).load();
-
-        Location from = player.getLocation();
-        spawnParticles(player, from, "pull-self-particles");
-        playSound(player, "pull-self-sound");
-
-        startContinuousPlayerPull(player, targetLocation, from);
-
-        consumeScroll(player, item);
+    private void drawGravitationEffect(Location center, int run) {
+        World world = center.getWorld();
+        if (world == null) return;
+        double angle = run * Math.PI / 8;
+        for (int i = 0; i < 3; i++) {
+            double particleAngle = angle + (i * 120.0 * Math.PI / 180.0);
+            double x = center.getX() + 2.0 * Math.cos(particleAngle);
+            double z = center.getZ() + 2.0 * Math.sin(particleAngle);
+            double y = center.getY() + 0.5;
+
+            world.spawnParticle(Particle.SPELL_WITCH, x, y, z, 1, 0, 0, 0, 0.1);
+            world.spawnParticle(Particle.CRIT_MAGIC, x, y, z, 1, 0.1, 0.1, 0.1, 0.01);
+        }
     }
 
-    private void startContinuousPlayerPull(Player player, Location target, Location startLocation) {
-        new BukkitRunnable() {
-            int ticks = 0;
-            final int maxTicks = 60;
-
-            @Override
-            public void run() {
-                if (!player.isOnline() || ticks >= maxTicks) {
-                    if (player.isOnline()) {
-                        player.teleport(target);
-                        spawnParticles(player, target, "target-particles");
-                        Map<String, String> placeholders = locPlaceholders(target);
-                        sendMessage(player, "pulled-self", placeholders);
-                        playSound(player, "success-sound");
-                    }
-                    cancel();
-                    return;
-                }
-
-                Location currentLoc = player.getLocation();
-                double distance = currentLoc.distance(target);
-
-                if (distance < 2.0) {
-                    player.teleport(target);
-                    startGravityVortex(target, 40);
-                    Map<String, String> placeholders = locPlaceholders(target);
-                    sendMessage(player, "pulled-self", placeholders);
-                    playSound(player, "success-sound");
-                    cancel();
-                    return;
-                }
-
-                Vector direction = target.toVector().subtract(currentLoc.toVector());
-                direction.setY(direction.getY() + 0.1);
-
-                double pullStrength = Math.min(distance * 0.4, 3.5);
-                player.setVelocity(direction.normalize().multiply(pullStrength));
+    private GravityGridRenderer createGrid(TargetInfo targetInfo, double scale, double pullRange) {
+        boolean isRightClick = scale < 1.0;
+        double maxRadius = isRightClick ? 2.0 : (pullRange / 2.0) * scale;
+        double minRadius = isRightClick ? 0.8 : 0.8 * scale;
+        return new GravityGridRenderer(targetInfo.face, targetInfo.normal, minRadius, maxRadius, 0.2 * maxRadius, isRightClick ? 8 : 12);
+    }
 
-                if (ticks % 2 == 0) {
-                    spawnParticles(player, currentLoc, "pull-self-particles");
-                }
+    private void drawTargetGrid(GravityGridRenderer grid, TargetInfo targetInfo, int run, int maxRuns, boolean isRightClick) {
+        if (isRightClick) {
+            double prog = run < 20 ? 0.0 : (run - 20.0) / (maxRuns - 20.0);
+            grid.draw(targetInfo.location, 1.0, prog, run);
+        } else if (run < 20) {
+            createPointCluster(targetInfo);
+        } else if (run < 40) {
+            grid.draw(targetInfo.location, Math.pow((run - 20.0) / 20.0, 0.5), 0.0, run);
+        } else if (run < 60) {
+            grid.draw(targetInfo.location, 1.0, (run - 40.0) / 20.0, run);
+        } else {
+            grid.draw(targetInfo.location, 1.0, 1.0, run);
+        }
+    }
 
-                ticks++;
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+    private void createPointCluster(TargetInfo targetInfo) {
+        Random rand = new Random();
+        for (int i = 0; i < 20; i++) {
+            double offsetX = (rand.nextDouble() - 0.5) * 0.2;
+            double offsetY = (rand.nextDouble() - 0.5) * 0.2;
+            double offsetZ = (rand.nextDouble() - 0.5) * 0.2;
+            Location pointLoc = targetInfo.location.clone().add(offsetX, offsetY, offsetZ);
+            targetInfo.location.getWorld().spawnParticle(Particle.REDSTONE, pointLoc, 1,
+                    0, 0, 0, 0, new Particle.DustOptions(Color.fromRGB(10, 10, 10), 0.25f));
+        }
     }
 
-    private void startGravityVortex(Location center, int duration) {
-        new BukkitRunnable() {
-            double angle = 0;
-            double angle2 = Math.PI;
-            int ticks = 0;
-            final double maxRadius = 3.0;
-
-            @Override
-            public void run() {
-                if (ticks >= duration) {
-                    cancel();
-                    return;
+    private void drawGravityVortex(Location center, int run, int duration) {
+        World world = center.getWorld();
+        if (world == null) return;
+        double angle = run * Math.PI / 12;
+        double angle2 = Math.PI + run * Math.PI / 16;
+        final double maxRadius = 3.0;
+
+        for (int layer = 0; layer < 3; layer++) {
+            double radius = maxRadius * (1.0 - (double) layer / 3.0);
+            double heightOffset = layer * 0.3;
+
+            for (int i = 0; i < 4; i++) {
+                double spiralAngle = angle + (i * Math.PI / 2.0);
+                double currentRadius = radius * (1.0 - (double) run / duration * 0.3);
+
+                double x = center.getX() + currentRadius * Math.cos(spiralAngle);
+                double z = center.getZ() + currentRadius * Math.sin(spiralAngle);
+                double y = center.getY() + heightOffset + Math.sin(angle * 2) * 0.2;
+
+                world.spawnParticle(Particle.REDSTONE, x, y, z,
+                        1, 0.05, 0.05, 0.05, 0.01, new Particle.DustOptions(Color.fromRGB(20, 20, 20), 0.5f));
+                if (run % 4 == 0) {
+                    world.spawnParticle(Particle.SPELL_WITCH, x, y, z, 1, 0.02, 0.02, 0.02, 0.005);
                 }
+            }
 
-                for (int layer = 0; layer < 3; layer++) {
-                    double radius = maxRadius * (1.0 - (double) layer / 3.0);
-                    double heightOffset = layer * 0.3;
-
-                    for (int i = 0; i < 4; i++) {
-                        double spiralAngle = angle + (i * Math.PI / 2.0);
-                        double currentRadius = radius * (1.0 - (double) ticks / duration * 0.3);
-
-                        double x = center.getX() + currentRadius * Math.cos(spiralAngle);
-                        double z = center.getZ() + currentRadius * Math.sin(spiralAngle);
-                        double y = center.getY() + heightOffset + Math.sin(angle * 2) * 0.2;
-
-                        Location particleLoc = new Location(center.getWorld(), x, y, z);
-
-                        center.getWorld().spawnParticle(Particle.REDSTONE, particleLoc,
-                                1, 0.05, 0.05, 0.05, 0.01, new Particle.DustOptions(Color.fromRGB(20, 20, 20), 0.5f));
-                        if (ticks % 4 == 0) {
-                            center.getWorld().spawnParticle(Particle.SPELL_WITCH, particleLoc, 1, 0.02, 0.02, 0.02, 0.005);
-                        }
-                    }
-
-                    for (int i = 0; i < 3; i++) {
-                        double spiralAngle = -angle2 + (i * 2 * Math.PI / 3.0);
-                        double currentRadius = radius * 0.7 * (1.0 - (double) ticks / duration * 0.2);
-
-                        double x = center.getX() + currentRadius * Math.cos(spiralAngle);
-                        double z = center.getZ() + currentRadius * Math.sin(spiralAngle);
-                        double y = center.getY() + heightOffset + 0.1;
-
-                        Location particleLoc = new Location(center.getWorld(), x, y, z);
-                        center.getWorld().spawnParticle(Particle.REDSTONE, particleLoc,
-                                1, 0.03, 0.03, 0.03, 0.005, new Particle.DustOptions(Color.fromRGB(20, 20, 20), 0.5f));
-                    }
-                }
+            for (int i = 0; i < 3; i++) {
+                double spiralAngle = -angle2 + (i * 2 * Math.PI / 3.0);
+                double currentRadius = radius * 0.7 * (1.0 - (double) run / duration * 0.2);
 
-                if (ticks % 5 == 0) {
-                    double pulseIntensity = 1.0 + Math.sin(ticks * 0.3) * 0.3;
-                    center.getWorld().spawnParticle(Particle.SPELL_WITCH, center,
-                            (int) (3 * pulseIntensity), 0.1, 0.1, 0.1, 0.02);
-                    center.getWorld().spawnParticle(Particle.PORTAL, center,
-                            (int) (2 * pulseIntensity), 0.05, 0.05, 0.05, 0.01);
-                }
+                double x = center.getX() + currentRadius * Math.cos(spiralAngle);
+                double z = center.getZ() + currentRadius * Math.sin(spiralAngle);
+                double y = center.getY() + heightOffset + 0.1;
 
-                angle += Math.PI / 12;
-                angle2 += Math.PI / 16;
-                ticks++;
+                world.spawnParticle(Particle.REDSTONE, x, y, z,
+                        1, 0.03, 0.03, 0.03, 0.005, new Particle.DustOptions(Color.fromRGB(20, 20, 20), 0.5f));
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }
+
+        if (run % 5 == 0) {
+            double pulseIntensity = 1.0 + Math.sin(run * 0.3) * 0.3;
+            world.spawnParticle(Particle.SPELL_WITCH, center,
+                    (int) (3 * pulseIntensity), 0.1, 0.1, 0.1, 0.02);
+            world.spawnParticle(Particle.PORTAL, center,
+                    (int) (2 * pulseIntensity), 0.05, 0.05, 0.05, 0.01);
+        }
     }
 
-    private void pullEntitiesTowards(Location dynamicTarget, double range, double strengthCap, Player source, double depthMult, int ticks, TargetInfo targetInfo, int totalTicks) {
-        World w = dynamicTarget.getWorld();
+    private void pullEntitiesTowards(double range, double strengthCap, Player source, double depthMult, int ticks, TargetInfo targetInfo, int totalTicks) {
+        World w = targetInfo.location.getWorld();
         if (w == null) return;
 
         double progress = (double) ticks / Math.max(1, (totalTicks - 1));
         double pullStrength = (ticks < totalTicks - 1) ? strengthCap * 0.3 * (1 + progress * 2) : strengthCap * 3.0;
 
-        Vector n = targetInfo.normal.clone().normalize();
+        Vector normal = targetInfo.normal;
+        double length = Math.max(normal.length(), 1.0E-9);
+        double nx = normal.getX() / length, ny = normal.getY() / length, nz = normal.getZ() / length;
         double depth = 10.0 * depthMult;
-        Location surface = targetInfo.location.clone();
-        Location pullCenter = surface.clone().add(n.clone().multiply((range - depth) * 0.5));
+        Location surface = targetInfo.location;
+        double centerOffset = (range - depth) * 0.5;
+        double cx = surface.getX() + nx * centerOffset, cy = surface.getY() + ny * centerOffset, cz = surface.getZ() + nz * centerOffset;
         double effectiveRadius = 0.5 * (range + depth);
         double r2 = effectiveRadius * effectiveRadius;
-
-        Location attractPoint = surface.clone().add(n.clone().multiply(-depth));
-
-        for (Entity entity : w.getNearbyEntities(pullCenter, effectiveRadius, effectiveRadius, effectiveRadius)) {
-            if (entity instanceof LivingEntity && entity != source && !(entity instanceof Player)) {
-                LivingEntity e = (LivingEntity) entity;
-                Location el = e.getLocation();
-                if (el.toVector().distanceSquared(pullCenter.toVector()) <= r2) {
-                    Vector dir = attractPoint.toVector().subtract(el.toVector());
-                    dir.setY(dir.getY() + 0.2);
-                    double distanceToAttractor = el.distance(attractPoint);
-                    double adjustedStrength = Math.min(pullStrength * (distanceToAttractor / Math.max(range, 0.001)), pullStrength);
-                    adjustedStrength = Math.max(adjustedStrength, 0.1);
-                    e.setVelocity(dir.normalize().multiply(adjustedStrength));
-                    if (ticks % 10 == 0 && e.getHealth() > 0) e.damage(0.5, source);
-                }
+        double ax = surface.getX() - nx * depth, ay = surface.getY() - ny * depth, az = surface.getZ() - nz * depth;
+        double invRange = 1.0 / Math.max(range, 0.001);
+        boolean damageTick = ticks % 10 == 0;
+
+        plugin.getEntityQueryCache().getLivingEntities(w, cx, cy, cz, effectiveRadius, nearby);
+        for (int i = 0; i < nearby.size(); i++) {
+            LivingEntity e = nearby.get(i);
+            if (e == source || e instanceof Player) continue;
+            double ex = nearby.getX(i), ey = nearby.getY(i), ez = nearby.getZ(i);
+            double dx = ex - cx, dy = ey - cy, dz = ez - cz;
+            if (dx * dx + dy * dy + dz * dz > r2) continue;
+
+            double tx = ax - ex, ty = ay - ey, tz = az - ez;
+            double distanceToAttractor = Math.sqrt(tx * tx + ty * ty + tz * tz);
+            double strength = Math.max(Math.min(pullStrength * distanceToAttractor * invRange, pullStrength), 0.1);
+            ty += 0.2;
+            double dirLength = Math.sqrt(tx * tx + ty * ty + tz * tz);
+            if (dirLength > 0) {
+                double scale = strength / dirLength;
+                forces.addVelocity(e, tx * scale, ty * scale, tz * scale, strength);
             }
+            if (damageTick) forces.addDamage(e, 0.5, source);
         }
+        nearby.clear();
     }
 
 
@@ -832,90 +624,42 @@ public class ScrollOfGravitation implements Listener {
     }
 
     private void playSound(Player player, String soundKey) {
-        SoundConfig sc = getSoundConfig(soundKey, "BLOCK_NOTE_BLOCK_PLING", 1.0f, 1.0f);
-        try {
-            player.playSound(player.getLocation(), sc.sound, sc.volume, sc.pitch);
-        } catch (IllegalArgumentException ignored) {
-        }
+        settings.getSound(soundKey, DEFAULT_SOUND).play(player);
     }
 
     private void spawnParticles(Player player, Location location, String particleKey) {
-        ConfigurationSection particleConfig = scrollConfig.getConfigurationSection("particles." + particleKey);
-        if (particleConfig != null) {
-            String particleName = particleConfig.getString("particle", "PORTAL");
-            int count = particleConfig.getInt("count", 50);
-            double offsetX = particleConfig.getDouble("offset-x", 1.0);
-            double offsetY = particleConfig.getDouble("offset-y", 1.0);
-            double offsetZ = particleConfig.getDouble("offset-z", 1.0);
-            double speed = particleConfig.getDouble("speed", 0.3);
-
-            try {
-                Particle particle = Particle.valueOf(particleName.toUpperCase());
-                location.getWorld().spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, speed);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid particle: " + particleName);
-            }
-        }
+        ScrollSettings.ParticleEffect particles = settings.getParticles(particleKey);
+        if (particles != null) particles.spawn(location);
     }
 
     private void sendMessage(Player player, String messageKey) {
-        sendMessage(player, messageKey, new HashMap<>());
-    }
-
-    private void sendMessage(Player player, String messageKey, Map<String, String> placeholders) {
         String prefix = plugin.getConfigManager().getScrollMessage(SCROLL_FILE, "prefix");
-        String message = plugin.getConfigManager().getScrollMessage(SCROLL_FILE, messageKey, placeholders);
-        player.sendMessage(ColorUtils.colorize(prefix + " " + message));
+        player.sendMessage(prefix + " " + plugin.getConfigManager().getScrollMessage(SCROLL_FILE, messageKey));
     }
 
-    private boolean isScrollOfGravitation(ItemStack item) {
-        String material = scrollConfig != null ? scrollConfig.getString("material", "PAPER") : "PAPER";
-        if (item == null || item.getType() != Material.valueOf(material)) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return false;
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
-        return "scroll_of_gravitation".equalsIgnoreCase(
-                pdc.get(KEY_SCROLL_TYPE, PersistentDataType.STRING)
-        );
+    private void sendMessage(Player player, String messageKey, Location l) {
+        sendMessage(player, messageKey, "world", l.getWorld().getName(), "x", l.getBlockX(), "y", l.getBlockY(), "z", l.getBlockZ());
     }
 
-    private Map<String, String> locPlaceholders(Location l) {
-        Map<String, String> ph = new HashMap<>();
-        ph.put("world", l.getWorld().getName());
-        ph.put("x", String.valueOf(l.getBlockX()));
-        ph.put("y", String.valueOf(l.getBlockY()));
-        ph.put("z", String.valueOf(l.getBlockZ()));
-        return ph;
+    private void sendMessage(Player player, String messageKey, Object... keyValues) {
+        String prefix = plugin.getConfigManager().getScrollMessage(SCROLL_FILE, "prefix");
+        player.sendMessage(prefix + " " + plugin.getConfigManager().getScrollMessage(SCROLL_FILE, messageKey, keyValues));
     }
 
-    private static class SoundConfig {
-        final Sound sound;
-        final float volume;
-        final float pitch;
 
-        SoundConfig(Sound sound, float volume, float pitch) {
-            this.sound = sound;
-            this.volume = volume;
-            this.pitch = pitch;
-        }
-    }
 
-    private SoundConfig getSoundConfig(String key, String def, float defVol, float defPitch) {
-        ConfigurationSection soundConfig = scrollConfig.getConfigurationSection("sounds." + key);
-        String soundName = def;
-        float volume = defVol;
-        float pitch = defPitch;
-        if (soundConfig != null) {
-            soundName = soundConfig.getString("sound", def);
-            volume = (float) soundConfig.getDouble("volume", defVol);
-            pitch = (float) soundConfig.getDouble("pitch", defPitch);
-        }
-        Sound s;
-        try {
-            s = Sound.valueOf(soundName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            s = Sound.BLOCK_NOTE_BLOCK_PLING;
-        }
-        return new SoundConfig(s, volume, pitch);
+    private static final class GravitationSettings extends ScrollSettings {
+        private final double castTime;
+        private final double pullRange;
+        private final double maxRange;
+        private final double castPullStrength;
+
+        GravitationSettings(ConfigurationSection scrollConfig, ConfigurationSection scrollsEntry, Logger logger) {
+            super("scroll_of_gravitation", scrollConfig, scrollsEntry, logger);
+            this.castTime = scrollConfig != null ? scrollConfig.getDouble("cast-time", 2.0) : 2.0;
+            this.pullRange = scrollConfig != null ? scrollConfig.getDouble("pull-range", 8.0) : 8.0;
+            this.maxRange = scrollConfig != null ? scrollConfig.getDouble("max-range", 50.0) : 50.0;
+            this.castPullStrength = scrollConfig != null ? scrollConfig.getDouble("cast-pull-strength", 1.2) : 1.2;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+public class ScrollSettings {
+
+    private final String id;
+    private final boolean enabled;
+    private final Material material;
+    private final Map<String, SoundEffect> sounds;
+    private final Map<String, ParticleEffect> particles;
+
+    protected ScrollSettings(String id, ConfigurationSection scrollConfig, ConfigurationSection scrollsEntry, Logger logger) {
+        this.id = id;
+        this.enabled = scrollsEntry == null || scrollsEntry.getBoolean("enabled", true);
+        String materialName = scrollConfig != null ? scrollConfig.getString("material", "PAPER") : "PAPER";
+        Material resolved = Material.matchMaterial(materialName);
+        if (resolved == null) {
+            logger.warning("Invalid material for " + id + ": " + materialName);
+            resolved = Material.PAPER;
+        }
+        this.material = resolved;
+        this.sounds = loadSounds(scrollConfig != null ? scrollConfig.getConfigurationSection("sounds") : null, logger);
+        this.particles = loadParticles(scrollConfig != null ? scrollConfig.getConfigurationSection("particles") : null, logger);
+    }
+
+    private static Map<String, SoundEffect> loadSounds(ConfigurationSection section, Logger logger) {
+        if (section == null) return Collections.emptyMap();
+        Map<String, SoundEffect> sounds = new HashMap<>();
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection soundConfig = section.getConfigurationSection(key);
+            if (soundConfig == null) continue;
+            String soundName = soundConfig.getString("sound", "BLOCK_NOTE_BLOCK_PLING");
+            try {
+                Sound sound = Sound.valueOf(soundName.toUpperCase());
+                sounds.put(key, new SoundEffect(sound, (float) soundConfig.getDouble("volume", 1.0), (float) soundConfig.getDouble("pitch", 1.0)));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid sound: " + soundName);
+            }
+        }
+        return Collections.unmodifiableMap(sounds);
+    }
+
+    private static Map<String, ParticleEffect> loadParticles(ConfigurationSection section, Logger logger) {
+        if (section == null) return Collections.emptyMap();
+        Map<String, ParticleEffect> particles = new HashMap<>();
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection particleConfig = section.getConfigurationSection(key);
+            if (particleConfig == null) continue;
+            String particleName = particleConfig.getString("particle", "PORTAL");
+            try {
+                Particle particle = Particle.valueOf(particleName.toUpperCase());
+                particles.put(key, new ParticleEffect(particle,
+                        particleConfig.getInt("count", 50),
+                        particleConfig.getDouble("offset-x", 1.0),
+                        particleConfig.getDouble("offset-y", 1.0),
+                        particleConfig.getDouble("offset-z", 1.0),
+                        particleConfig.getDouble("speed", 0.3)));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid particle: " + particleName);
+            }
+        }
+        return Collections.unmodifiableMap(particles);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Material getMaterial() {
+        return material;
+    }
+
+    public SoundEffect getSound(String key) {
+        return sounds.get(key);
+    }
+
+    public SoundEffect getSound(String key, SoundEffect fallback) {
+        SoundEffect sound = sounds.get(key);
+        return sound != null ? sound : fallback;
+    }
+
+    public ParticleEffect getParticles(String key) {
+        return particles.get(key);
+    }
+
+    public static final class SoundEffect {
+        private final Sound sound;
+        private final float volume;
+        private final float pitch;
+
+        public SoundEffect(Sound sound, float volume, float pitch) {
+            this.sound = sound;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+
+        public void play(Player player) {
+            player.playSound(player.getLocation(), sound, volume, pitch);
+        }
+
+        public void play(World world, Location location) {
+            world.playSound(location, sound, volume, pitch);
+        }
+    }
+
+    public static final class ParticleEffect {
+        private final Particle particle;
+        private final int count;
+        private final double offsetX;
+        private final double offsetY;
+        private final double offsetZ;
+        private final double speed;
+
+        ParticleEffect(Particle particle, int count, double offsetX, double offsetY, double offsetZ, double speed) {
+            this.particle = particle;
+            this.count = count;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.offsetZ = offsetZ;
+            this.speed = speed;
+        }
+
+        public void spawn(Location location) {
+            World world = location.getWorld();
+            if (world != null) world.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, speed);
+        }
+    }
+}
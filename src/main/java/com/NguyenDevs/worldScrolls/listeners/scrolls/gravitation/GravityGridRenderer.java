@@ -0,0 +1,200 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.gravitation;
+
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+
+public final class GravityGridRenderer {
+
+    private static final double RING_DENSITY = 0.08;
+    private static final double RADIAL_DENSITY = 0.12;
+    private static final double CROSS_DENSITY = 0.15;
+    private static final int RADIAL_LINES = 16;
+    private static final int MAX_STRIDE = 64;
+
+    private static final Particle.DustOptions RADIAL_DUST = new Particle.DustOptions(Color.fromRGB(15, 15, 15), 0.25f);
+    private static final Particle.DustOptions CROSS_DUST = new Particle.DustOptions(Color.fromRGB(20, 20, 20), 0.25f);
+    private static final Particle.DustOptions HOLE_DUST = new Particle.DustOptions(Color.fromRGB(3, 3, 3), 0.25f);
+    private static final Particle.DustOptions EDGE_DUST = new Particle.DustOptions(Color.fromRGB(0, 255, 255), 0.8f);
+
+    private final double ux, uy, uz;
+    private final double vx, vy, vz;
+    private final double nx, ny, nz;
+    private final double minRadius;
+
+    private double[] offsetX = new double[256];
+    private double[] offsetY = new double[256];
+    private double[] offsetZ = new double[256];
+    private double[] depth = new double[256];
+    private int size;
+
+    private int[] segmentEnd = new int[32];
+    private Particle.DustOptions[] segmentDust = new Particle.DustOptions[32];
+    private int segments;
+
+    private final double[] frameX;
+    private final double[] frameY;
+    private final double[] frameZ;
+
+    public GravityGridRenderer(BlockFace face, Vector normal, double minRadius, double maxRadius, double holeRadius, int ringCount) {
+        if (face == BlockFace.UP || face == BlockFace.DOWN) {
+            ux = 1; uy = 0; uz = 0;
+            vx = 0; vy = 0; vz = 1;
+        } else if (face == BlockFace.EAST || face == BlockFace.WEST) {
+            ux = 0; uy = 1; uz = 0;
+            vx = 0; vy = 0; vz = 1;
+        } else {
+            ux = 1; uy = 0; uz = 0;
+            vx = 0; vy = 1; vz = 0;
+        }
+        this.nx = normal.getX();
+        this.ny = normal.getY();
+        this.nz = normal.getZ();
+        this.minRadius = minRadius;
+
+        for (int ring = 1; ring <= ringCount; ring++) {
+            double normalizedRing = (double) ring / ringCount;
+            double radius = minRadius + (maxRadius - minRadius) * (normalizedRing * normalizedRing * 0.7 + normalizedRing * 0.3);
+            int points = Math.max(8, (int) (2 * Math.PI * radius / RING_DENSITY));
+            double ringDepth = depthCoefficient(holeRadius, radius);
+            for (int i = 0; i < points; i++) {
+                double angle = (2 * Math.PI * i) / points;
+                addPoint(radius * Math.cos(angle), radius * Math.sin(angle), ringDepth);
+            }
+            int shade = (int) (10 + radius * 3);
+            endSegment(new Particle.DustOptions(Color.fromRGB(shade, shade, shade), 0.25f));
+        }
+
+        int radialPoints = (int) ((maxRadius - minRadius) / RADIAL_DENSITY);
+        for (int line = 0; line < RADIAL_LINES; line++) {
+            double angle = line * Math.PI / 8.0;
+            double cos = Math.cos(angle);
+            double sin = Math.sin(angle);
+            for (int i = 1; i <= radialPoints; i++) {
+                double distance = minRadius + ((maxRadius - minRadius) * i) / radialPoints;
+                addPoint(distance * cos, distance * sin, depthCoefficient(holeRadius, distance));
+            }
+        }
+        endSegment(RADIAL_DUST);
+
+        int crossPoints = (int) ((maxRadius - minRadius) / CROSS_DENSITY);
+        double[][] directions = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        for (double[] direction : directions) {
+            for (int i = 1; i <= crossPoints; i++) {
+                double distance = minRadius + ((maxRadius - minRadius) * i) / crossPoints;
+                addPoint(direction[0] * distance, direction[1] * distance, depthCoefficient(holeRadius, distance));
+            }
+        }
+        endSegment(CROSS_DUST);
+
+        this.frameX = new double[size];
+        this.frameY = new double[size];
+        this.frameZ = new double[size];
+    }
+
+    private static double depthCoefficient(double holeRadius, double distance) {
+        return (holeRadius / Math.max(distance, 0.1)) * 6.0;
+    }
+
+    private void addPoint(double a, double b, double depthCoefficient) {
+        if (size == offsetX.length) {
+            int capacity = size * 2;
+            offsetX = Arrays.copyOf(offsetX, capacity);
+            offsetY = Arrays.copyOf(offsetY, capacity);
+            offsetZ = Arrays.copyOf(offsetZ, capacity);
+            depth = Arrays.copyOf(depth, capacity);
+        }
+        offsetX[size] = ux * a + vx * b;
+        offsetY[size] = uy * a + vy * b;
+        offsetZ[size] = uz * a + vz * b;
+        depth[size] = depthCoefficient;
+        size++;
+    }
+
+    private void endSegment(Particle.DustOptions dust) {
+        if (segments == segmentEnd.length) {
+            segmentEnd = Arrays.copyOf(segmentEnd, segments * 2);
+            segmentDust = Arrays.copyOf(segmentDust, segments * 2);
+        }
+        segmentEnd[segments] = size;
+        segmentDust[segments] = dust;
+        segments++;
+    }
+
+    public int getPointCount() {
+        return size;
+    }
+
+    public void draw(Location center, double scale, double depthMult, int ticks) {
+        World world = center.getWorld();
+        if (world == null) return;
+        double cx = center.getX(), cy = center.getY(), cz = center.getZ();
+
+        deform(cx, cy, cz, scale, depthMult);
+
+        int stride = scale >= 1.0 ? 1 : scale <= 1.0 / MAX_STRIDE ? MAX_STRIDE : (int) Math.round(1.0 / scale);
+        int start = 0;
+        for (int s = 0; s < segments; s++) {
+            int end = segmentEnd[s];
+            Particle.DustOptions dust = segmentDust[s];
+            for (int i = start; i < end; i += stride) {
+                world.spawnParticle(Particle.REDSTONE, frameX[i], frameY[i], frameZ[i], 1, 0, 0, 0, 0, dust);
+            }
+            start = end;
+        }
+
+        double scaledMin = minRadius * scale;
+        drawBlackHoleEdge(world, cx, cy, cz, ticks, 0.2 * scaledMin / 0.8);
+
+        if (ticks % 10 == 0) {
+            double edgeDepth = -1.2 * depthMult;
+            for (int i = 0; i < 8; i++) {
+                double angle = i * Math.PI / 4 + ticks * 0.05;
+                spawnOnPlane(world, Particle.REDSTONE, cx, cy, cz, scaledMin * Math.cos(angle), scaledMin * Math.sin(angle),
+                        edgeDepth, 0.05, 0, EDGE_DUST);
+            }
+        }
+    }
+
+    private void deform(double cx, double cy, double cz, double scale, double depthMult) {
+        double dx = -nx * depthMult, dy = -ny * depthMult, dz = -nz * depthMult;
+        for (int i = 0; i < size; i++) {
+            double d = depth[i];
+            frameX[i] = cx + offsetX[i] * scale + dx * d;
+            frameY[i] = cy + offsetY[i] * scale + dy * d;
+            frameZ[i] = cz + offsetZ[i] * scale + dz * d;
+        }
+    }
+
+    private void drawBlackHoleEdge(World world, double cx, double cy, double cz, int ticks, double holeRadius) {
+        for (int i = 0; i < 12; i++) {
+            double angle = i * Math.PI / 6 + ticks * 0.08;
+            spawnOnPlane(world, Particle.REDSTONE, cx, cy, cz, holeRadius * Math.cos(angle), holeRadius * Math.sin(angle),
+                    -1.5, 0.05, 0, HOLE_DUST);
+
+            if (ticks % 6 == 0) {
+                double innerAngle = angle + Math.PI / 12;
+                double innerRadius = holeRadius * 0.7;
+                spawnOnPlane(world, Particle.SPELL_WITCH, cx, cy, cz, innerRadius * Math.cos(innerAngle), innerRadius * Math.sin(innerAngle),
+                        -1.3, 0.02, 0.001, null);
+            }
+        }
+    }
+
+    private void spawnOnPlane(World world, Particle particle, double cx, double cy, double cz, double a, double b,
+                              double normalOffset, double spread, double extra, Particle.DustOptions dust) {
+        double x = cx + ux * a + vx * b + nx * normalOffset;
+        double y = cy + uy * a + vy * b + ny * normalOffset;
+        double z = cz + uz * a + vz * b + nz * normalOffset;
+        if (dust != null) {
+            world.spawnParticle(particle, x, y, z, 1, spread, spread, spread, extra, dust);
+        } else {
+            world.spawnParticle(particle, x, y, z, 1, spread, spread, spread, extra);
+        }
+    }
+}
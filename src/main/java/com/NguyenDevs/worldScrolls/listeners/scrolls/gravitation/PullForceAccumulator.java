@@ -0,0 +1,91 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.gravitation;
+
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+
+public final class PullForceAccumulator {
+
+    private final LongIntMap slots = new LongIntMap(64);
+    private final Vector scratch = new Vector();
+    private LivingEntity[] entities = new LivingEntity[32];
+    private Entity[] damageSources = new Entity[32];
+    private double[] vx = new double[32];
+    private double[] vy = new double[32];
+    private double[] vz = new double[32];
+    private double[] maxSpeed = new double[32];
+    private double[] damage = new double[32];
+    private int size;
+
+    public void addVelocity(LivingEntity entity, double x, double y, double z, double speed) {
+        int slot = slot(entity);
+        vx[slot] += x;
+        vy[slot] += y;
+        vz[slot] += z;
+        if (speed > maxSpeed[slot]) maxSpeed[slot] = speed;
+    }
+
+    public void addDamage(LivingEntity entity, double amount, Entity source) {
+        int slot = slot(entity);
+        damage[slot] += amount;
+        if (damageSources[slot] == null) damageSources[slot] = source;
+    }
+
+    public int getPending() {
+        return size;
+    }
+
+    public void flush() {
+        for (int i = 0; i < size; i++) {
+            LivingEntity entity = entities[i];
+            if (entity.isValid()) {
+                double x = vx[i], y = vy[i], z = vz[i];
+                double speedSquared = x * x + y * y + z * z;
+                if (speedSquared > 0) {
+                    double cap = maxSpeed[i];
+                    if (speedSquared > cap * cap) {
+                        double factor = cap / Math.sqrt(speedSquared);
+                        x *= factor;
+                        y *= factor;
+                        z *= factor;
+                    }
+                    entity.setVelocity(scratch.setX(x).setY(y).setZ(z));
+                }
+                if (damage[i] > 0 && entity.getHealth() > 0) entity.damage(damage[i], damageSources[i]);
+            }
+            entities[i] = null;
+            damageSources[i] = null;
+            vx[i] = 0;
+            vy[i] = 0;
+            vz[i] = 0;
+            maxSpeed[i] = 0;
+            damage[i] = 0;
+        }
+        size = 0;
+        slots.clear();
+    }
+
+    private int slot(LivingEntity entity) {
+        int slot = slots.get(entity.getEntityId(), -1);
+        if (slot >= 0) return slot;
+        if (size == entities.length) grow();
+        slot = size++;
+        entities[slot] = entity;
+        slots.put(entity.getEntityId(), slot);
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = size * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        damageSources = Arrays.copyOf(damageSources, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        vz = Arrays.copyOf(vz, capacity);
+        maxSpeed = Arrays.copyOf(maxSpeed, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+    }
+}
@@ -0,0 +1,14 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import org.bukkit.Material;
+
+public interface BlockView {
+
+    Material getType(int x, int y, int z);
+
+    int getHighestBlockYAt(int x, int z);
+
+    int getMinHeight();
+
+    int getMaxHeight();
+}
@@ -0,0 +1,138 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import com.NguyenDevs.worldScrolls.managers.BlockEditQueue;
+import org.bukkit.Material;
+
+import java.util.Arrays;
+
+public final class CraterPlan {
+
+    private long[] editKeys = new long[1024];
+    private Material[] editMaterials = new Material[1024];
+    private BlockEditQueue.Mode[] editModes = new BlockEditQueue.Mode[1024];
+    private int editCount;
+
+    private long[] fireKeys = new long[32];
+    private int[] fireDelays = new int[32];
+    private boolean[] fireBurnOut = new boolean[32];
+    private int fireCount;
+
+    private double[] crackPoints = new double[192];
+    private Material[] crackMaterials = new Material[64];
+    private int crackCount;
+    private int[] layerCrackEnd = new int[32];
+    private int layerCount;
+
+    private long planNanos;
+
+    void addEdit(long key, Material material, BlockEditQueue.Mode mode) {
+        if (editCount == editKeys.length) {
+            editKeys = Arrays.copyOf(editKeys, editCount * 2);
+            editMaterials = Arrays.copyOf(editMaterials, editCount * 2);
+            editModes = Arrays.copyOf(editModes, editCount * 2);
+        }
+        editKeys[editCount] = key;
+        editMaterials[editCount] = material;
+        editModes[editCount] = mode;
+        editCount++;
+    }
+
+    void addFire(long key, int delay, boolean burnOut) {
+        if (fireCount == fireKeys.length) {
+            fireKeys = Arrays.copyOf(fireKeys, fireCount * 2);
+            fireDelays = Arrays.copyOf(fireDelays, fireCount * 2);
+            fireBurnOut = Arrays.copyOf(fireBurnOut, fireCount * 2);
+        }
+        fireKeys[fireCount] = key;
+        fireDelays[fireCount] = delay;
+        fireBurnOut[fireCount] = burnOut;
+        fireCount++;
+    }
+
+    void addCrack(double x, double y, double z, Material material) {
+        if (crackCount == crackMaterials.length) {
+            crackMaterials = Arrays.copyOf(crackMaterials, crackCount * 2);
+            crackPoints = Arrays.copyOf(crackPoints, crackCount * 6);
+        }
+        crackPoints[crackCount * 3] = x;
+        crackPoints[crackCount * 3 + 1] = y;
+        crackPoints[crackCount * 3 + 2] = z;
+        crackMaterials[crackCount] = material;
+        crackCount++;
+    }
+
+    void endLayer() {
+        if (layerCount == layerCrackEnd.length) {
+            layerCrackEnd = Arrays.copyOf(layerCrackEnd, layerCount * 2);
+        }
+        layerCrackEnd[layerCount++] = crackCount;
+    }
+
+    void setPlanNanos(long planNanos) {
+        this.planNanos = planNanos;
+    }
+
+    public int getEditCount() {
+        return editCount;
+    }
+
+    public long getEditKey(int index) {
+        return editKeys[index];
+    }
+
+    public Material getEditMaterial(int index) {
+        return editMaterials[index];
+    }
+
+    public BlockEditQueue.Mode getEditMode(int index) {
+        return editModes[index];
+    }
+
+    public int getFireCount() {
+        return fireCount;
+    }
+
+    public long getFireKey(int index) {
+        return fireKeys[index];
+    }
+
+    public int getFireDelay(int index) {
+        return fireDelays[index];
+    }
+
+    public boolean isFireBurnOut(int index) {
+        return fireBurnOut[index];
+    }
+
+    public int getLayerCount() {
+        return layerCount;
+    }
+
+    public int getLayerCrackStart(int layer) {
+        return layer == 0 ? 0 : layerCrackEnd[layer - 1];
+    }
+
+    public int getLayerCrackEnd(int layer) {
+        return layerCrackEnd[layer];
+    }
+
+    public double getCrackX(int index) {
+        return crackPoints[index * 3];
+    }
+
+    public double getCrackY(int index) {
+        return crackPoints[index * 3 + 1];
+    }
+
+    public double getCrackZ(int index) {
+        return crackPoints[index * 3 + 2];
+    }
+
+    public Material getCrackMaterial(int index) {
+        return crackMaterials[index];
+    }
+
+    public long getPlanNanos() {
+        return planNanos;
+    }
+}
@@ -0,0 +1,413 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import com.NguyenDevs.worldScrolls.managers.BlockEditQueue;
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+import org.bukkit.Material;
+
+import java.util.Random;
+
+import static com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.MeteorTerrain.METEOR_CRUST_MATERIALS;
+import static com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.MeteorTerrain.SCORCHED_MATERIALS;
+
+public final class CraterPlanner {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private final double impactX, impactY, impactZ;
+    private final double dirX, dirY, dirZ;
+    private final int meteorSize;
+    private final int totalDepth;
+    private final double maxRadius;
+    private final Random random;
+    private double boundMinX, boundMaxX, boundMinZ, boundMaxZ;
+
+    private final LongIntMap overlay = new LongIntMap(1024);
+    private BlockView view;
+    private CraterPlan plan;
+
+    public CraterPlanner(double impactX, double impactY, double impactZ, double dirX, double dirY, double dirZ, int meteorSize, long seed) {
+        this.impactX = impactX;
+        this.impactY = impactY;
+        this.impactZ = impactZ;
+        double length = Math.sqrt(dirX * dirX + dirY * dirY + dirZ * dirZ);
+        this.dirX = dirX / length;
+        this.dirY = dirY / length;
+        this.dirZ = dirZ / length;
+        this.meteorSize = meteorSize;
+        this.totalDepth = meteorSize * 2 + 8;
+        this.maxRadius = meteorSize * 1.2;
+        this.random = new Random(seed);
+        computeBounds();
+    }
+
+    public int getTotalDepth() {
+        return totalDepth;
+    }
+
+    public int getMinX() {
+        return floor(boundMinX);
+    }
+
+    public int getMaxX() {
+        return floor(boundMaxX);
+    }
+
+    public int getMinZ() {
+        return floor(boundMinZ);
+    }
+
+    public int getMaxZ() {
+        return floor(boundMaxZ);
+    }
+
+    private void computeBounds() {
+        boundMinX = boundMaxX = impactX;
+        boundMinZ = boundMaxZ = impactZ;
+        include(0, Math.max(Math.max(8, meteorSize + 6), Math.max(meteorSize * 1.8, Math.max(3, meteorSize / 2) + 4)));
+        include(0, maxRadius * 1.8 * 1.2);
+        include(3, maxRadius * 1.8 * 1.2);
+        include(totalDepth - 1, Math.max(maxRadius, 1.5));
+        include(totalDepth, meteorSize * 0.6);
+    }
+
+    private void include(int depth, double reach) {
+        double x = impactX + dirX * depth * 0.8;
+        double z = impactZ + dirZ * depth * 0.8;
+        boundMinX = Math.min(boundMinX, x - reach - 1);
+        boundMaxX = Math.max(boundMaxX, x + reach + 1);
+        boundMinZ = Math.min(boundMinZ, z - reach - 1);
+        boundMaxZ = Math.max(boundMaxZ, z + reach + 1);
+    }
+
+    public CraterPlan plan(BlockView view) {
+        long start = System.nanoTime();
+        this.view = view;
+        this.plan = new CraterPlan();
+        overlay.clear();
+
+        clearVegetationAndFloatingObjects();
+        createMinimalScorchedArea();
+        double rotationAngle = 0;
+        for (int depth = 0; depth < totalDepth; depth++) {
+            double depthRatio = (double) depth / totalDepth;
+            double currentRadius = maxRadius * (1.0 - depthRatio * 0.7);
+            if (currentRadius < 1.0) currentRadius = 1.0;
+            drillCraterLayer(depth, currentRadius, rotationAngle);
+            plan.endLayer();
+            rotationAngle += 0.15;
+        }
+        placeMeteorWithCrust(totalDepth);
+        performFinalCleanup();
+        smoothCraterEdges();
+
+        CraterPlan result = plan;
+        result.setPlanNanos(System.nanoTime() - start);
+        this.plan = null;
+        this.view = null;
+        return result;
+    }
+
+    private Material getType(int x, int y, int z) {
+        int planned = overlay.get(BlockKey.pack(x, y, z), -1);
+        return planned >= 0 ? MATERIALS[planned] : view.getType(x, y, z);
+    }
+
+    private int getHighestBlockYAt(int x, int z) {
+        int y = view.getHighestBlockYAt(x, z);
+        while (y > view.getMinHeight() && getType(x, y, z).isAir()) y--;
+        return y;
+    }
+
+    private boolean edit(int x, int y, int z, Material material, BlockEditQueue.Mode mode) {
+        if (y < view.getMinHeight() || y >= view.getMaxHeight()) return false;
+        if (view.getType(x, y, z) == Material.VOID_AIR) return false;
+        long key = BlockKey.pack(x, y, z);
+        overlay.put(key, material.ordinal());
+        plan.addEdit(key, material, mode);
+        return true;
+    }
+
+    private static int floor(double value) {
+        return (int) Math.floor(value);
+    }
+
+    private void clearVegetationAndFloatingObjects() {
+        int radius = Math.max(6, meteorSize + 4);
+        for (int x = -radius; x <= radius; x++) {
+            for (int y = -12; y <= 12; y++) {
+                for (int z = -radius; z <= radius; z++) {
+                    double distance = Math.sqrt(x*x + z*z);
+                    if (distance > radius) continue;
+                    int bx = floor(impactX + x);
+                    int by = floor(impactY + y);
+                    int bz = floor(impactZ + z);
+                    Material type = getType(bx, by, bz);
+                    if (MeteorTerrain.isVegetation(type) ||
+                            type == Material.FIRE ||
+                            type == Material.SOUL_FIRE ||
+                            type.name().contains("TORCH") ||
+                            type.name().contains("SIGN") ||
+                            type.name().contains("BANNER") ||
+                            type == Material.SNOW ||
+                            type == Material.POWDER_SNOW ||
+                            (!type.isSolid() && type != Material.AIR && type != Material.WATER && type != Material.VOID_AIR)) {
+                        edit(bx, by, bz, Material.AIR, BlockEditQueue.Mode.SET);
+                    }
+                }
+            }
+        }
+    }
+
+    private void drillCraterLayer(int depth, double radius, double rotation) {
+        double centerX = impactX + dirX * depth * 0.8;
+        double centerY = impactY + dirY * depth * 0.8;
+        double centerZ = impactZ + dirZ * depth * 0.8;
+        if (depth < 4) {
+            addCrustAndScorchedMaterials(centerX, centerY, centerZ, radius * 1.8, depth);
+        }
+        double rightX = -dirZ, rightZ = dirX;
+        double rightLength = Math.sqrt(rightX * rightX + rightZ * rightZ);
+        if (rightLength < 1.0E-6) {
+            rightX = 1;
+            rightZ = 0;
+        } else {
+            rightX /= rightLength;
+            rightZ /= rightLength;
+        }
+        double upX = dirY * rightZ;
+        double upY = dirZ * rightX - dirX * rightZ;
+        double upZ = -dirY * rightX;
+        double upLength = Math.sqrt(upX * upX + upY * upY + upZ * upZ);
+        upX /= upLength;
+        upY /= upLength;
+        upZ /= upLength;
+
+        int numPoints = Math.max(12, (int)(radius * 4));
+        for (int i = 0; i < numPoints; i++) {
+            double angle = (2.0 * Math.PI * i / numPoints) + rotation;
+            for (double r = 0; r <= radius; r += 0.5) {
+                double localX = Math.cos(angle) * r;
+                double localY = Math.sin(angle) * r;
+                double px = centerX + rightX * localX + upX * localY;
+                double py = centerY + upY * localY;
+                double pz = centerZ + rightZ * localX + upZ * localY;
+                int bx = floor(px), by = floor(py), bz = floor(pz);
+                Material type = getType(bx, by, bz);
+                if (type != Material.BEDROCK && type.isSolid()) {
+                    if (random.nextDouble() < 0.4) {
+                        plan.addCrack(px + 0.5, py + 0.5, pz + 0.5, type);
+                    }
+                    if (depth <= 2 && random.nextDouble() < 0.2) {
+                        Material scorchedMaterial = SCORCHED_MATERIALS[random.nextInt(SCORCHED_MATERIALS.length)];
+                        edit(bx, by, bz, scorchedMaterial, BlockEditQueue.Mode.REPLACE_SOLID);
+                    } else {
+                        edit(bx, by, bz, Material.AIR, BlockEditQueue.Mode.REPLACE_SOLID);
+                    }
+                }
+            }
+        }
+        for (int x = -2; x <= 2; x++) {
+            for (int y = -2; y <= 2; y++) {
+                int bx = floor(centerX + rightX * x * 0.5 + upX * y * 0.5);
+                int by = floor(centerY + upY * y * 0.5);
+                int bz = floor(centerZ + rightZ * x * 0.5 + upZ * y * 0.5);
+                Material type = getType(bx, by, bz);
+                if (type != Material.BEDROCK && type.isSolid()) {
+                    if (depth <= 3 && random.nextDouble() < 0.3) {
+                        Material scorchedMaterial = SCORCHED_MATERIALS[random.nextInt(SCORCHED_MATERIALS.length)];
+                        edit(bx, by, bz, scorchedMaterial, BlockEditQueue.Mode.REPLACE_SOLID);
+                    } else {
+                        edit(bx, by, bz, Material.AIR, BlockEditQueue.Mode.REPLACE_SOLID);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addCrustAndScorchedMaterials(double centerX, double centerY, double centerZ, double radius, int depth) {
+        for (double angle = 0; angle < 2 * Math.PI; angle += 0.3) {
+            for (double r = radius * 0.6; r <= radius * 1.2; r += 0.5) {
+                double x = Math.cos(angle) * r;
+                double z = Math.sin(angle) * r;
+                for (int y = -1; y <= 1; y++) {
+                    int bx = floor(centerX + x);
+                    int by = floor(centerY + y + random.nextInt(2));
+                    int bz = floor(centerZ + z);
+                    Material type = getType(bx, by, bz);
+                    if (type.isSolid() && type != Material.BEDROCK) {
+                        double placementChance = depth == 0 ? 0.4 : 0.25;
+                        if (random.nextDouble() < placementChance) {
+                            if (random.nextDouble() < 0.6) {
+                                Material scorchedMaterial = SCORCHED_MATERIALS[random.nextInt(SCORCHED_MATERIALS.length)];
+                                edit(bx, by, bz, scorchedMaterial, BlockEditQueue.Mode.REPLACE_SOLID);
+                            } else {
+                                Material crustMaterial = METEOR_CRUST_MATERIALS[random.nextInt(METEOR_CRUST_MATERIALS.length)];
+                                edit(bx, by, bz, crustMaterial, BlockEditQueue.Mode.REPLACE_SOLID);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void placeMeteorWithCrust(int depth) {
+        double centerX = impactX + dirX * depth * 0.8;
+        double centerY = impactY + dirY * depth * 0.8;
+        double centerZ = impactZ + dirZ * depth * 0.8;
+
+        double yaw = Math.atan2(-dirX, dirZ);
+        double pitch = Math.atan2(-dirY, Math.sqrt(dirX * dirX + dirZ * dirZ));
+        double cy = Math.cos(yaw), sy = Math.sin(yaw);
+        double cp = Math.cos(pitch), sp = Math.sin(pitch);
+
+        double crustRadius = meteorSize * 0.6;
+        for (double x = -crustRadius; x <= crustRadius; x += 0.8) {
+            for (double y = -crustRadius; y <= crustRadius; y += 0.8) {
+                for (double z = -crustRadius; z <= crustRadius; z += 0.8) {
+                    double distance = Math.sqrt(x * x + y * y + z * z);
+                    if (distance >= crustRadius * 0.4 && distance <= crustRadius && random.nextDouble() < 0.7) {
+                        double x1 = x * cy - z * sy;
+                        double z1 = x * sy + z * cy;
+                        double y2 = y * cp - z1 * sp;
+                        double z2 = y * sp + z1 * cp;
+                        int bx = floor(centerX + x1);
+                        int by = floor(centerY + y2);
+                        int bz = floor(centerZ + z2);
+                        Material type = getType(bx, by, bz);
+                        if (type != Material.BEDROCK && type.isAir()) {
+                            Material crustMaterial = METEOR_CRUST_MATERIALS[random.nextInt(METEOR_CRUST_MATERIALS.length)];
+                            edit(bx, by, bz, crustMaterial, BlockEditQueue.Mode.FILL_AIR);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void createMinimalScorchedArea() {
+        int centerX = floor(impactX);
+        int centerZ = floor(impactZ);
+        int radius = Math.max(3, meteorSize / 2);
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                double distance = Math.sqrt(x*x + z*z);
+                if (distance <= radius) {
+                    double placementChance = distance <= radius * 0.5 ? 0.15 : 0.05;
+                    if (random.nextDouble() < placementChance) {
+                        int groundY = getHighestBlockYAt(centerX + x, centerZ + z);
+                        for (int y = 0; y >= -1; y--) {
+                            Material type = getType(centerX + x, groundY + y, centerZ + z);
+                            if (type.isSolid() && type != Material.BEDROCK) {
+                                double replaceChance = y == 0 ? 0.6 : 0.3;
+                                if (random.nextDouble() < replaceChance) {
+                                    Material scorchedMaterial;
+                                    if (distance <= radius * 0.3) {
+                                        double rand = random.nextDouble();
+                                        if (rand < 0.3) scorchedMaterial = Material.MAGMA_BLOCK;
+                                        else if (rand < 0.6) scorchedMaterial = Material.DEEPSLATE;
+                                        else scorchedMaterial = Material.COBBLESTONE;
+                                    } else {
+                                        scorchedMaterial = random.nextDouble() < 0.7 ? Material.COBBLESTONE : Material.DEEPSLATE;
+                                    }
+                                    edit(centerX + x, groundY + y, centerZ + z, scorchedMaterial, BlockEditQueue.Mode.REPLACE_SOLID);
+                                }
+                            }
+                        }
+                    }
+                    if (random.nextDouble() < 0.08 && distance <= radius * 0.6) {
+                        int groundY = getHighestBlockYAt(centerX + x, centerZ + z);
+                        if (getType(centerX + x, groundY + 1, centerZ + z).isAir() && getType(centerX + x, groundY, centerZ + z).isSolid()) {
+                            placeFire(centerX + x, groundY + 1, centerZ + z, 200 + random.nextInt(400), true);
+                        }
+                    }
+                }
+            }
+        }
+        int fireRadius = radius + 2;
+        for (int x = -fireRadius; x <= fireRadius; x++) {
+            for (int z = -fireRadius; z <= fireRadius; z++) {
+                double distance = Math.sqrt(x*x + z*z);
+                if (distance > radius && distance <= fireRadius && random.nextDouble() < 0.04) {
+                    int groundX = centerX + x;
+                    int groundZ = centerZ + z;
+                    int groundY = getHighestBlockYAt(groundX, groundZ);
+                    if (getType(groundX, groundY, groundZ).isSolid() && random.nextDouble() < 0.2) {
+                        Material scorchedMaterial = random.nextDouble() < 0.8 ? Material.COBBLESTONE : Material.DEEPSLATE;
+                        edit(groundX, groundY, groundZ, scorchedMaterial, BlockEditQueue.Mode.REPLACE_SOLID);
+                    }
+                    if (getType(groundX, groundY, groundZ).isSolid() && getType(groundX, groundY + 1, groundZ).isAir()) {
+                        boolean nearLeaves = checkNearbyVegetation(groundX, groundY + 1, groundZ);
+                        if (nearLeaves || random.nextDouble() < 0.3) {
+                            placeFire(groundX, groundY + 1, groundZ, 20, false);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void placeFire(int x, int y, int z, int delay, boolean burnOut) {
+        if (edit(x, y, z, Material.FIRE, BlockEditQueue.Mode.FILL_AIR)) plan.addFire(BlockKey.pack(x, y, z), delay, burnOut);
+    }
+
+    private boolean checkNearbyVegetation(int fireX, int fireY, int fireZ) {
+        for (int dx = -2; dx <= 2; dx++) {
+            for (int dz = -2; dz <= 2; dz++) {
+                for (int dy = -1; dy <= 2; dy++) {
+                    String name = getType(fireX + dx, fireY + dy, fireZ + dz).name();
+                    if (name.contains("LEAVES") || name.contains("LOG") || name.contains("WOOD")) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void performFinalCleanup() {
+        int radius = Math.max(8, meteorSize + 6);
+        for (int x = -radius; x <= radius; x++) {
+            for (int y = -15; y <= 10; y++) {
+                for (int z = -radius; z <= radius; z++) {
+                    double distance = Math.sqrt(x*x + z*z);
+                    if (distance > radius) continue;
+                    int bx = floor(impactX + x);
+                    int by = floor(impactY + y);
+                    int bz = floor(impactZ + z);
+                    Material type = getType(bx, by, bz);
+                    if (type == Material.FIRE || type == Material.SOUL_FIRE) {
+                        if (!getType(bx, by - 1, bz).isSolid()) edit(bx, by, bz, Material.AIR, BlockEditQueue.Mode.SET);
+                    }
+                }
+            }
+        }
+    }
+
+    private void smoothCraterEdges() {
+        double smoothRadius = meteorSize * 1.5;
+        for (double angle = 0; angle < 2 * Math.PI; angle += 0.1) {
+            for (double r = smoothRadius * 0.8; r <= smoothRadius * 1.2; r += 0.3) {
+                int edgeX = floor(impactX + Math.cos(angle) * r);
+                int edgeZ = floor(impactZ + Math.sin(angle) * r);
+                int groundY = getHighestBlockYAt(edgeX, edgeZ);
+                boolean isEdge = false;
+                for (int checkY = groundY - 1; checkY >= groundY - 5; checkY--) {
+                    if (getType(edgeX, checkY, edgeZ).isAir()) {
+                        isEdge = true;
+                        break;
+                    }
+                }
+                if (isEdge && random.nextDouble() < 0.6) {
+                    for (int step = 0; step < 3; step++) {
+                        if (getType(edgeX, groundY - step, edgeZ).isAir() && random.nextDouble() < 0.4) {
+                            Material material = step == 0 ? SCORCHED_MATERIALS[random.nextInt(SCORCHED_MATERIALS.length)] : METEOR_CRUST_MATERIALS[random.nextInt(METEOR_CRUST_MATERIALS.length)];
+                            edit(edgeX, groundY - step, edgeZ, material, BlockEditQueue.Mode.FILL_AIR);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
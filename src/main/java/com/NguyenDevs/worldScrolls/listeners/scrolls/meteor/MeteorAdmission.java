@@ -0,0 +1,200 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class MeteorAdmission {
+
+    public enum Result {
+        ADMITTED,
+        QUEUED,
+        REJECTED
+    }
+
+    private int maxActive;
+    private int maxPerWorld;
+    private int maxPerRegion;
+    private int regionChunks;
+    private int nextRegionChunks;
+    private boolean queueOverflow;
+    private int maxQueued;
+    private long queueTimeoutMillis;
+
+    private int active;
+    private long admitted;
+    private long rejected;
+    private final Map<UUID, Integer> worldActive = new HashMap<>();
+    private final Map<UUID, Map<Long, Integer>> regionActive = new HashMap<>();
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+
+    public MeteorAdmission(ConfigurationSection config) {
+        loadSettings(config);
+    }
+
+    public void loadSettings(ConfigurationSection config) {
+        this.maxActive = limit(config, "admission.max-active", 24);
+        this.maxPerWorld = limit(config, "admission.max-per-world", 12);
+        this.maxPerRegion = limit(config, "admission.max-per-region", 5);
+        this.nextRegionChunks = Math.max(1, config != null ? config.getInt("admission.region-chunks", 8) : 8);
+        applyRegionChunks();
+        this.queueOverflow = config == null || "queue".equalsIgnoreCase(config.getString("admission.overflow", "queue"));
+        this.maxQueued = Math.max(0, config != null ? config.getInt("admission.max-queued", 16) : 16);
+        this.queueTimeoutMillis = Math.max(0, config != null ? config.getInt("admission.queue-timeout", 30) : 30) * 1000L;
+    }
+
+    private static int limit(ConfigurationSection config, String path, int def) {
+        int value = config != null ? config.getInt(path, def) : def;
+        return value > 0 ? value : Integer.MAX_VALUE;
+    }
+
+    public Result request(Location target, int count, UUID casterId, Runnable launch, Consumer<UUID> expired) {
+        World world = target.getWorld();
+        long region = regionKey(target);
+        if (queue.isEmpty() && fits(world.getUID(), region, count)) {
+            reserve(world.getUID(), region, count);
+            launch.run();
+            return Result.ADMITTED;
+        }
+        if (queueOverflow && queue.size() < maxQueued && count <= Math.min(maxActive, Math.min(maxPerWorld, maxPerRegion))) {
+            queue.addLast(new Pending(world.getUID(), region, count, casterId, launch, expired,
+                    System.currentTimeMillis() + queueTimeoutMillis));
+            return Result.QUEUED;
+        }
+        rejected++;
+        return Result.REJECTED;
+    }
+
+    public long regionKey(Location location) {
+        return BlockKey.chunk(Math.floorDiv(location.getBlockX() >> 4, regionChunks), Math.floorDiv(location.getBlockZ() >> 4, regionChunks));
+    }
+
+    public void release(UUID worldId, long region) {
+        if (active <= 0) return;
+        active--;
+        worldActive.computeIfPresent(worldId, (id, value) -> value > 1 ? value - 1 : null);
+        Map<Long, Integer> regions = regionActive.get(worldId);
+        if (regions != null) {
+            regions.computeIfPresent(region, (key, value) -> value > 1 ? value - 1 : null);
+            if (regions.isEmpty()) regionActive.remove(worldId);
+        }
+        applyRegionChunks();
+        pump();
+    }
+
+    private void applyRegionChunks() {
+        if (nextRegionChunks == regionChunks || active > 0 || !queue.isEmpty()) return;
+        regionActive.clear();
+        this.regionChunks = nextRegionChunks;
+    }
+
+    public void pump() {
+        expire();
+        Iterator<Pending> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (!fits(pending.worldId, pending.region, pending.count)) break;
+            iterator.remove();
+            reserve(pending.worldId, pending.region, pending.count);
+            pending.launch.run();
+        }
+    }
+
+    public void expire() {
+        if (queue.isEmpty()) return;
+        long now = System.currentTimeMillis();
+        Iterator<Pending> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (pending.expiresAt >= now) continue;
+            iterator.remove();
+            rejected++;
+            pending.expired.accept(pending.casterId);
+        }
+        applyRegionChunks();
+    }
+
+    private boolean fits(UUID worldId, long region, int count) {
+        if (active + count > maxActive) return false;
+        if (worldActive.getOrDefault(worldId, 0) + count > maxPerWorld) return false;
+        Map<Long, Integer> regions = regionActive.get(worldId);
+        int inRegion = regions != null ? regions.getOrDefault(region, 0) : 0;
+        return inRegion + count <= maxPerRegion;
+    }
+
+    private void reserve(UUID worldId, long region, int count) {
+        active += count;
+        admitted += count;
+        worldActive.merge(worldId, count, Integer::sum);
+        regionActive.computeIfAbsent(worldId, id -> new HashMap<>()).merge(region, count, Integer::sum);
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    public int getMaxPerWorld() {
+        return maxPerWorld;
+    }
+
+    public int getMaxPerRegion() {
+        return maxPerRegion;
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    public long getAdmitted() {
+        return admitted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public Map<UUID, Integer> getWorldActive() {
+        return Collections.unmodifiableMap(worldActive);
+    }
+
+    public int getBusiestRegion(UUID worldId) {
+        Map<Long, Integer> regions = regionActive.get(worldId);
+        if (regions == null) return 0;
+        int max = 0;
+        for (int value : regions.values()) max = Math.max(max, value);
+        return max;
+    }
+
+    private static final class Pending {
+        private final UUID worldId;
+        private final long region;
+        private final int count;
+        private final UUID casterId;
+        private final Runnable launch;
+        private final Consumer<UUID> expired;
+        private final long expiresAt;
+
+        Pending(UUID worldId, long region, int count, UUID casterId, Runnable launch, Consumer<UUID> expired, long expiresAt) {
+            this.worldId = worldId;
+            this.region = region;
+            this.count = count;
+            this.casterId = casterId;
+            this.launch = launch;
+            this.expired = expired;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
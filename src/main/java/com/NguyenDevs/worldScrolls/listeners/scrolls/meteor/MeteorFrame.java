@@ -0,0 +1,102 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+
+public final class MeteorFrame {
+
+    public static final int AIR = -1;
+
+    private LongIntMap previous;
+    private LongIntMap current;
+    private final long[] deltaKeys;
+    private final int[] deltaPalette;
+    private final long[] addedKeys;
+    private int deltaCount;
+    private int vacatedCount;
+    private int addedCount;
+
+    public MeteorFrame(int voxels) {
+        int capacity = Math.max(16, voxels);
+        this.previous = new LongIntMap(capacity);
+        this.current = new LongIntMap(capacity);
+        this.deltaKeys = new long[capacity * 2];
+        this.deltaPalette = new int[capacity * 2];
+        this.addedKeys = new long[capacity];
+    }
+
+    public void update(MeteorModel model, double x, double y, double z) {
+        LongIntMap frame = current;
+        frame.clear();
+        for (int i = 0; i < model.getVoxelCount(); i++) {
+            long key = BlockKey.pack(
+                    (int) Math.floor(x + model.getOffsetX(i)),
+                    (int) Math.floor(y + model.getOffsetY(i)),
+                    (int) Math.floor(z + model.getOffsetZ(i)));
+            frame.put(key, model.getMaterialIndex(i));
+        }
+
+        deltaCount = 0;
+        for (int i = 0; i < previous.size(); i++) {
+            long key = previous.keyAt(i);
+            if (!frame.containsKey(key)) {
+                deltaKeys[deltaCount] = key;
+                deltaPalette[deltaCount++] = AIR;
+            }
+        }
+        vacatedCount = deltaCount;
+        addedCount = 0;
+        for (int i = 0; i < frame.size(); i++) {
+            long key = frame.keyAt(i);
+            int before = previous.get(key, AIR);
+            if (before != frame.valueAt(i)) {
+                deltaKeys[deltaCount] = key;
+                deltaPalette[deltaCount++] = frame.valueAt(i);
+                if (before == AIR) addedKeys[addedCount++] = key;
+            }
+        }
+    }
+
+    public void commit() {
+        LongIntMap swap = previous;
+        previous = current;
+        current = swap;
+    }
+
+    public void clear() {
+        previous.clear();
+        current.clear();
+    }
+
+    public LongIntMap getCurrent() {
+        return current;
+    }
+
+    public LongIntMap getPrevious() {
+        return previous;
+    }
+
+    public long[] getDeltaKeys() {
+        return deltaKeys;
+    }
+
+    public int getDeltaPalette(int index) {
+        return deltaPalette[index];
+    }
+
+    public int getDeltaCount() {
+        return deltaCount;
+    }
+
+    public int getVacatedCount() {
+        return vacatedCount;
+    }
+
+    public long[] getAddedKeys() {
+        return addedKeys;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+}
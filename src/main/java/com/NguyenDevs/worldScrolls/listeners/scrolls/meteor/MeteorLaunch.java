@@ -0,0 +1,167 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class MeteorLaunch {
+
+    private static final double[] AVOID_ANGLES = {0, Math.PI / 2, Math.PI, 3 * Math.PI / 2};
+
+    private final int delayTicks;
+    private final double startX, startY, startZ;
+    private final double targetX, targetY, targetZ;
+    private final int size;
+    private final MeteorShape shape;
+    private final double speed;
+    private final long modelSeed;
+    private final long craterSeed;
+    private final double dirX, dirY, dirZ;
+
+    public MeteorLaunch(int delayTicks, double startX, double startY, double startZ,
+                        double targetX, double targetY, double targetZ,
+                        int size, MeteorShape shape, double speed, long modelSeed, long craterSeed) {
+        this.delayTicks = delayTicks;
+        this.startX = startX;
+        this.startY = startY;
+        this.startZ = startZ;
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.targetZ = targetZ;
+        this.size = size;
+        this.shape = shape;
+        this.speed = speed;
+        this.modelSeed = modelSeed;
+        this.craterSeed = craterSeed;
+
+        double bx = targetX - startX;
+        double by = targetY - startY;
+        double bz = targetZ - startZ;
+        double length = Math.sqrt(bx * bx + by * by + bz * bz);
+        bx /= length;
+        by = Math.min(by / length, -0.55);
+        bz /= length;
+        length = Math.sqrt(bx * bx + by * by + bz * bz);
+        this.dirX = bx / length;
+        this.dirY = by / length;
+        this.dirZ = bz / length;
+    }
+
+    public static List<MeteorLaunch> rollShower(double targetX, double targetY, double targetZ, int count,
+                                                int spawnHeight, int minSize, int maxSize, Random random) {
+        List<MeteorLaunch> launches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int delayTicks = (i == 0) ? 20 : (20 + i * 5);
+            double angle = 0.3 + random.nextDouble() * (2 * Math.PI - 0.6);
+            for (double avoidAngle : AVOID_ANGLES) {
+                if (Math.abs(angle - avoidAngle) < 0.2) angle += 0.3;
+            }
+            double spawnDistance = 80 + random.nextDouble() * 40;
+            int size = minSize + random.nextInt(maxSize - minSize + 1);
+            launches.add(new MeteorLaunch(delayTicks,
+                    targetX + Math.cos(angle) * spawnDistance, targetY + spawnHeight, targetZ + Math.sin(angle) * spawnDistance,
+                    targetX, targetY, targetZ,
+                    size, rollShape(size, random), 2.0 + random.nextDouble() * 1.5, random.nextLong(), random.nextLong()));
+        }
+        return launches;
+    }
+
+    private static MeteorShape rollShape(int size, Random random) {
+        double rand = random.nextDouble();
+        if (size >= 9) {
+            if (rand < 0.25) return MeteorShape.COMPLEX;
+            if (rand < 0.45) return MeteorShape.IRREGULAR;
+            if (rand < 0.65) return MeteorShape.TAILED;
+            if (rand < 0.85) return MeteorShape.ARROW;
+            return MeteorShape.SPHERICAL;
+        } else if (size >= 6) {
+            if (rand < 0.2) return MeteorShape.COMPLEX;
+            if (rand < 0.4) return MeteorShape.IRREGULAR;
+            if (rand < 0.6) return MeteorShape.TAILED;
+            if (rand < 0.8) return MeteorShape.ARROW;
+            return MeteorShape.SPHERICAL;
+        } else {
+            if (rand < 0.1) return MeteorShape.COMPLEX;
+            if (rand < 0.3) return MeteorShape.IRREGULAR;
+            if (rand < 0.5) return MeteorShape.TAILED;
+            if (rand < 0.7) return MeteorShape.ARROW;
+            return MeteorShape.SPHERICAL;
+        }
+    }
+
+    public String format() {
+        return delayTicks + " " + startX + " " + startY + " " + startZ + " "
+                + targetX + " " + targetY + " " + targetZ + " "
+                + size + " " + shape.name() + " " + speed + " " + modelSeed + " " + craterSeed;
+    }
+
+    public static MeteorLaunch parse(String line) {
+        String[] parts = line.trim().split("\\s+");
+        if (parts.length != 12) throw new IllegalArgumentException("Expected 12 fields but got " + parts.length + ": " + line);
+        return new MeteorLaunch(Integer.parseInt(parts[0]),
+                Double.parseDouble(parts[1]), Double.parseDouble(parts[2]), Double.parseDouble(parts[3]),
+                Double.parseDouble(parts[4]), Double.parseDouble(parts[5]), Double.parseDouble(parts[6]),
+                Integer.parseInt(parts[7]), MeteorShape.valueOf(parts[8]), Double.parseDouble(parts[9]),
+                Long.parseLong(parts[10]), Long.parseLong(parts[11]));
+    }
+
+    public int getDelayTicks() {
+        return delayTicks;
+    }
+
+    public double getStartX() {
+        return startX;
+    }
+
+    public double getStartY() {
+        return startY;
+    }
+
+    public double getStartZ() {
+        return startZ;
+    }
+
+    public double getTargetX() {
+        return targetX;
+    }
+
+    public double getTargetY() {
+        return targetY;
+    }
+
+    public double getTargetZ() {
+        return targetZ;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public MeteorShape getShape() {
+        return shape;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public long getModelSeed() {
+        return modelSeed;
+    }
+
+    public long getCraterSeed() {
+        return craterSeed;
+    }
+
+    public double getDirX() {
+        return dirX;
+    }
+
+    public double getDirY() {
+        return dirY;
+    }
+
+    public double getDirZ() {
+        return dirZ;
+    }
+}
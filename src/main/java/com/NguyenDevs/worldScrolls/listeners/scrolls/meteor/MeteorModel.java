@@ -0,0 +1,251 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import org.bukkit.Material;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public final class MeteorModel {
+
+    public static final Material[] PALETTE = {
+            Material.DEEPSLATE, Material.BLACKSTONE, Material.MAGMA_BLOCK, Material.GILDED_BLACKSTONE
+    };
+
+    private static final byte[] WEIGHTED_PALETTE = {0, 0, 0, 1, 1, 1, 2, 3};
+
+    private final MeteorShape shape;
+    private final int size;
+    private final double[] offsets;
+    private final byte[] materials;
+
+    private MeteorModel(MeteorShape shape, int size, double[] offsets, byte[] materials) {
+        this.shape = shape;
+        this.size = size;
+        this.offsets = offsets;
+        this.materials = materials;
+    }
+
+    public MeteorShape getShape() {
+        return shape;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getVoxelCount() {
+        return materials.length;
+    }
+
+    public double getOffsetX(int voxel) {
+        return offsets[voxel * 3];
+    }
+
+    public double getOffsetY(int voxel) {
+        return offsets[voxel * 3 + 1];
+    }
+
+    public double getOffsetZ(int voxel) {
+        return offsets[voxel * 3 + 2];
+    }
+
+    public int getMaterialIndex(int voxel) {
+        return materials[voxel];
+    }
+
+    public Material getMaterial(int voxel) {
+        return PALETTE[materials[voxel]];
+    }
+
+    public static MeteorModel generate(MeteorShape shape, int size, long seed) {
+        Random random = new Random(seed);
+        Builder builder = new Builder();
+        switch (shape) {
+            case ARROW:
+                generateArrow(builder, size, random);
+                break;
+            case IRREGULAR:
+                generateIrregular(builder, size, random);
+                break;
+            case TAILED:
+                generateTailed(builder, size, random);
+                break;
+            case COMPLEX:
+                generateComplex(builder, size, random);
+                break;
+            case SPHERICAL:
+            default:
+                generateSpherical(builder, size, random);
+                break;
+        }
+        return builder.build(shape, size);
+    }
+
+    private static void generateSpherical(Builder voxels, int size, Random random) {
+        double rx = size * (0.55 + random.nextDouble() * 0.25);
+        double ry = size * (0.50 + random.nextDouble() * 0.25);
+        double rz = size * (0.55 + random.nextDouble() * 0.25);
+        int maxX = (int) Math.ceil(rx) + 1;
+        int maxY = (int) Math.ceil(ry) + 1;
+        int maxZ = (int) Math.ceil(rz) + 1;
+        for (int x = -maxX; x <= maxX; x++) {
+            for (int y = -maxY; y <= maxY; y++) {
+                for (int z = -maxZ; z <= maxZ; z++) {
+                    double nx = x / rx;
+                    double ny = y / ry;
+                    double nz = z / rz;
+                    double distance = nx * nx + ny * ny + nz * nz;
+                    double noise = (random.nextDouble() * 2 - 1) * 0.12;
+                    if (distance <= 1.0 + noise && random.nextDouble() < 0.85) {
+                        voxels.add(x, y, z, random);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void generateArrow(Builder voxels, int size, Random random) {
+        double rx = size * (0.35 + random.nextDouble() * 0.2);
+        double ry = size * (0.35 + random.nextDouble() * 0.2);
+        double rz = size * (1.0 + random.nextDouble() * 0.5);
+        int maxX = (int) Math.ceil(rx) + 1;
+        int maxY = (int) Math.ceil(ry) + 1;
+        int maxZ = (int) Math.ceil(rz) + 1;
+        for (int x = -maxX; x <= maxX; x++) {
+            for (int y = -maxY; y <= maxY; y++) {
+                for (int z = -maxZ; z <= maxZ; z++) {
+                    double tapering = z < 0 ? 1.0 + (z / rz) * 0.8 : 1.0;
+                    double nx = x / (rx * tapering);
+                    double ny = y / (ry * tapering);
+                    double nz = z / rz;
+                    double distance = nx * nx + ny * ny + nz * nz;
+                    double noise = (random.nextDouble() * 2 - 1) * 0.1;
+                    if (distance <= 1.0 + noise && random.nextDouble() < 0.82) {
+                        voxels.add(x, y, z, random);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void generateIrregular(Builder voxels, int size, Random random) {
+        int numChunks = 2 + random.nextInt(3);
+        for (int chunk = 0; chunk < numChunks; chunk++) {
+            double centerX = random.nextDouble(-size * 0.6, size * 0.6);
+            double centerY = random.nextDouble(-size * 0.6, size * 0.6);
+            double centerZ = random.nextDouble(-size * 0.6, size * 0.6);
+            double chunkSize = size * (0.3 + random.nextDouble() * 0.4);
+            double rx = chunkSize * (0.5 + random.nextDouble() * 0.5);
+            double ry = chunkSize * (0.5 + random.nextDouble() * 0.5);
+            double rz = chunkSize * (0.5 + random.nextDouble() * 0.5);
+            int maxX = (int) Math.ceil(rx + Math.abs(centerX)) + 1;
+            int maxY = (int) Math.ceil(ry + Math.abs(centerY)) + 1;
+            int maxZ = (int) Math.ceil(rz + Math.abs(centerZ)) + 1;
+            for (int x = -maxX; x <= maxX; x++) {
+                for (int y = -maxY; y <= maxY; y++) {
+                    for (int z = -maxZ; z <= maxZ; z++) {
+                        double nx = (x - centerX) / rx;
+                        double ny = (y - centerY) / ry;
+                        double nz = (z - centerZ) / rz;
+                        double distance = nx * nx + ny * ny + nz * nz;
+                        double noise = (random.nextDouble() * 2 - 1) * 0.25;
+                        if (distance <= 1.0 + noise && random.nextDouble() < 0.75) {
+                            voxels.add(x, y, z, random);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void generateTailed(Builder voxels, int size, Random random) {
+        double headSize = size * 0.8;
+        double rx = headSize * (0.55 + random.nextDouble() * 0.25);
+        double ry = headSize * (0.50 + random.nextDouble() * 0.25);
+        double rz = headSize * (0.35 + random.nextDouble() * 0.25);
+        int maxX = (int) Math.ceil(rx) + 1;
+        int maxY = (int) Math.ceil(ry) + 1;
+        int maxZ = (int) Math.ceil(rz) + 1;
+        for (int x = -maxX; x <= maxX; x++) {
+            for (int y = -maxY; y <= maxY; y++) {
+                for (int z = -maxZ; z <= maxZ; z++) {
+                    double nx = x / rx;
+                    double ny = y / ry;
+                    double nz = z / rz;
+                    double distance = nx * nx + ny * ny + nz * nz;
+                    if (distance <= 1.0 && random.nextDouble() < 0.88) {
+                        voxels.add(x, y, z, random);
+                    }
+                }
+            }
+        }
+        int tailLength = Math.max(3, size + random.nextInt(size));
+        for (int t = 1; t <= tailLength; t++) {
+            double tailFactor = 1.0 - (double) t / tailLength;
+            double tailRadius = Math.max(1, rx * tailFactor * 0.6);
+            for (int x = (int) -tailRadius; x <= tailRadius; x++) {
+                for (int y = (int) -tailRadius; y <= tailRadius; y++) {
+                    double distance = Math.sqrt(x * x + y * y);
+                    if (distance <= tailRadius && random.nextDouble() < 0.4 * tailFactor) {
+                        voxels.add(x, y, maxZ + t, random);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void generateComplex(Builder voxels, int size, Random random) {
+        generateSpherical(voxels, size, random);
+        int numProtrusions = 2 + random.nextInt(3);
+        for (int i = 0; i < numProtrusions; i++) {
+            double angle1 = random.nextDouble() * 2 * Math.PI;
+            double angle2 = random.nextDouble() * Math.PI;
+            double dirX = Math.cos(angle1) * Math.sin(angle2);
+            double dirY = Math.cos(angle2);
+            double dirZ = Math.sin(angle1) * Math.sin(angle2);
+            double length = Math.sqrt(dirX * dirX + dirY * dirY + dirZ * dirZ);
+            dirX /= length;
+            dirY /= length;
+            dirZ /= length;
+            double protrusionSize = size * (0.3 + random.nextDouble() * 0.4);
+            int protrusionLength = (int) (protrusionSize * (1.0 + random.nextDouble()));
+            for (int j = 1; j <= protrusionLength; j++) {
+                double shrinkFactor = 1.0 - (double) j / protrusionLength * 0.8;
+                double radius = Math.max(1, protrusionSize * 0.3 * shrinkFactor);
+                double reach = size * 0.7 + j;
+                for (int x = (int) -radius; x <= radius; x++) {
+                    for (int y = (int) -radius; y <= radius; y++) {
+                        for (int z = (int) -radius; z <= radius; z++) {
+                            double distance = Math.sqrt(x * x + y * y + z * z);
+                            if (distance <= radius && random.nextDouble() < 0.7) {
+                                voxels.add(dirX * reach + x, dirY * reach + y, dirZ * reach + z, random);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Builder {
+        private double[] offsets = new double[768];
+        private byte[] materials = new byte[256];
+        private int count;
+
+        void add(double x, double y, double z, Random random) {
+            if (count == materials.length) {
+                materials = Arrays.copyOf(materials, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 6);
+            }
+            offsets[count * 3] = x;
+            offsets[count * 3 + 1] = y;
+            offsets[count * 3 + 2] = z;
+            materials[count] = WEIGHTED_PALETTE[random.nextInt(WEIGHTED_PALETTE.length)];
+            count++;
+        }
+
+        MeteorModel build(MeteorShape shape, int size) {
+            return new MeteorModel(shape, size, Arrays.copyOf(offsets, count * 3), Arrays.copyOf(materials, count));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import com.comphenix.protocol.wrappers.WrappedBlockData;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class MeteorModelCache {
+
+    private final int minSize;
+    private final int maxSize;
+    private final int variants;
+    private final AtomicReferenceArray<MeteorModel> models;
+    private WrappedBlockData[] paletteData;
+
+    public MeteorModelCache(int minSize, int maxSize, int variants) {
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.variants = Math.max(1, variants);
+        this.models = new AtomicReferenceArray<>(MeteorShape.values().length * (maxSize - minSize + 1) * this.variants);
+    }
+
+    public void warmUpAsync(Plugin plugin) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, this::warmUp);
+    }
+
+    public void warmUp() {
+        for (MeteorShape shape : MeteorShape.values()) {
+            for (int size = minSize; size <= maxSize; size++) {
+                for (int variant = 0; variant < variants; variant++) {
+                    getModelVariant(shape, size, variant);
+                }
+            }
+        }
+    }
+
+    public MeteorModel getModel(MeteorShape shape, int size, long seed) {
+        return getModelVariant(shape, size, (int) Math.floorMod(seed, (long) variants));
+    }
+
+    private MeteorModel getModelVariant(MeteorShape shape, int size, int variant) {
+        int clamped = Math.max(minSize, Math.min(maxSize, size));
+        int index = (shape.ordinal() * (maxSize - minSize + 1) + (clamped - minSize)) * variants + variant;
+        MeteorModel model = models.get(index);
+        if (model == null) {
+            model = MeteorModel.generate(shape, clamped, variantSeed(shape, clamped, variant));
+            if (!models.compareAndSet(index, null, model)) {
+                model = models.get(index);
+            }
+        }
+        return model;
+    }
+
+    public WrappedBlockData getBlockData(int paletteIndex) {
+        if (paletteData == null) {
+            WrappedBlockData[] data = new WrappedBlockData[MeteorModel.PALETTE.length];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = WrappedBlockData.createData(MeteorModel.PALETTE[i].createBlockData());
+            }
+            paletteData = data;
+        }
+        return paletteData[paletteIndex];
+    }
+
+    public int getVariants() {
+        return variants;
+    }
+
+    private static long variantSeed(MeteorShape shape, int size, int variant) {
+        return ((long) shape.ordinal() << 40) ^ ((long) size << 20) ^ (variant * 0x9E3779B97F4A7C15L);
+    }
+}
@@ -0,0 +1,130 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+
+public final class MeteorPath {
+
+    private static final double SAMPLE_SPACING = 0.5;
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final double startX, startY, startZ;
+    private final double stepX, stepY, stepZ;
+    private final int maxSteps;
+    private final int samplesPerStep;
+    private final LongIntMap tops = new LongIntMap(64);
+    private final LongIntMap grounds = new LongIntMap(64);
+    private int impactStep = -1;
+    private double impactX, impactY, impactZ;
+    private int replans;
+
+    public MeteorPath(double x, double y, double z, double dirX, double dirY, double dirZ, double speed, int maxSteps) {
+        this.startX = x;
+        this.startY = y;
+        this.startZ = z;
+        this.stepX = dirX * speed;
+        this.stepY = dirY * speed;
+        this.stepZ = dirZ * speed;
+        this.maxSteps = maxSteps;
+        this.samplesPerStep = Math.max(1, (int) Math.ceil(speed / SAMPLE_SPACING));
+    }
+
+    public void plan(BlockView view, int fromStep) {
+        impactStep = -1;
+        for (int step = fromStep; step < maxSteps; step++) {
+            double prevY = startY + stepY * step;
+            for (int s = 1; s <= samplesPerStep; s++) {
+                double t = step + (double) s / samplesPerStep;
+                double px = startX + stepX * t;
+                double py = startY + stepY * t;
+                double pz = startZ + stepZ * t;
+                int ground = ground(view, (int) Math.floor(px), (int) Math.floor(pz));
+                if ((int) Math.floor(py) <= ground) {
+                    double surface = ground + 1;
+                    double f = prevY > surface && prevY > py ? (prevY - surface) / (prevY - py) : 1.0;
+                    double ht = t - (1.0 - f) / samplesPerStep;
+                    impactStep = step;
+                    impactX = startX + stepX * ht;
+                    impactY = startY + stepY * ht;
+                    impactZ = startZ + stepZ * ht;
+                    return;
+                }
+                prevY = py;
+            }
+        }
+    }
+
+    public boolean validate(BlockView view, int step) {
+        if (step >= maxSteps) return false;
+        boolean changed = false;
+        long lastColumn = 0;
+        boolean first = true;
+        for (int s = 1; s <= samplesPerStep; s++) {
+            double t = step + (double) s / samplesPerStep;
+            int bx = (int) Math.floor(startX + stepX * t);
+            int bz = (int) Math.floor(startZ + stepZ * t);
+            long column = BlockKey.column(bx, bz);
+            if (!first && column == lastColumn) continue;
+            first = false;
+            lastColumn = column;
+            int top = tops.get(column, UNKNOWN);
+            if (top == UNKNOWN || top == view.getHighestBlockYAt(bx, bz)) continue;
+            tops.remove(column, UNKNOWN);
+            grounds.remove(column, UNKNOWN);
+            changed = true;
+        }
+        if (changed) {
+            replans++;
+            plan(view, step);
+        }
+        return changed;
+    }
+
+    private int ground(BlockView view, int x, int z) {
+        long column = BlockKey.column(x, z);
+        int ground = grounds.get(column, UNKNOWN);
+        if (ground != UNKNOWN) return ground;
+        int top = view.getHighestBlockYAt(x, z);
+        ground = top < view.getMinHeight() ? top : scanDown(view, x, top, z);
+        tops.put(column, top);
+        grounds.put(column, ground);
+        return ground;
+    }
+
+    private static int scanDown(BlockView view, int x, int top, int z) {
+        for (int y = Math.min(top, view.getMaxHeight() - 1); y >= view.getMinHeight(); y--) {
+            if (MeteorTerrain.isSolidTerrain(view.getType(x, y, z))) {
+                return y;
+            }
+        }
+        return view.getMinHeight();
+    }
+
+    public boolean hasImpact() {
+        return impactStep >= 0;
+    }
+
+    public int getImpactStep() {
+        return impactStep;
+    }
+
+    public double getImpactX() {
+        return impactX;
+    }
+
+    public double getImpactY() {
+        return impactY;
+    }
+
+    public double getImpactZ() {
+        return impactZ;
+    }
+
+    public int getColumnCount() {
+        return grounds.size();
+    }
+
+    public int getReplans() {
+        return replans;
+    }
+}
@@ -0,0 +1,5 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+public enum MeteorShape {
+    SPHERICAL, ARROW, IRREGULAR, TAILED, COMPLEX
+}
@@ -0,0 +1,51 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import org.bukkit.Material;
+
+public final class MeteorTerrain {
+
+    public static final Material[] SCORCHED_MATERIALS = {
+            Material.COBBLESTONE, Material.DEEPSLATE, Material.MAGMA_BLOCK
+    };
+
+    public static final Material[] METEOR_CRUST_MATERIALS = {
+            Material.DEEPSLATE, Material.BLACKSTONE, Material.COBBLED_DEEPSLATE
+    };
+
+    private MeteorTerrain() {
+    }
+
+    public static boolean isSolidTerrain(Material material) {
+        return material.isSolid() &&
+                material != Material.WATER &&
+                !material.name().contains("LEAVES") &&
+                !material.name().contains("LOG") &&
+                !material.name().contains("WOOD") &&
+                !isVegetation(material);
+    }
+
+    public static boolean isVegetation(Material material) {
+        return material == Material.GRASS ||
+                material == Material.TALL_GRASS ||
+                material == Material.FERN ||
+                material == Material.LARGE_FERN ||
+                material == Material.DEAD_BUSH ||
+                material == Material.DANDELION ||
+                material == Material.POPPY ||
+                material == Material.BLUE_ORCHID ||
+                material == Material.ALLIUM ||
+                material == Material.AZURE_BLUET ||
+                material == Material.RED_TULIP ||
+                material == Material.ORANGE_TULIP ||
+                material == Material.WHITE_TULIP ||
+                material == Material.PINK_TULIP ||
+                material == Material.OXEYE_DAISY ||
+                material == Material.SUNFLOWER ||
+                material == Material.LILAC ||
+                material == Material.ROSE_BUSH ||
+                material == Material.PEONY ||
+                material == Material.GLOWSTONE ||
+                material.name().contains("SAPLING") ||
+                material.name().contains("MUSHROOM");
+    }
+}
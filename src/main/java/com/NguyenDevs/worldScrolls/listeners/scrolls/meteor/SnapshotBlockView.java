@@ -0,0 +1,79 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+public final class SnapshotBlockView implements BlockView {
+
+    private final ChunkSnapshot[] chunks;
+    private final int captured;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int width;
+    private final int depth;
+    private final int minHeight;
+    private final int maxHeight;
+
+    private SnapshotBlockView(ChunkSnapshot[] chunks, int captured, int minChunkX, int minChunkZ, int width, int depth, int minHeight, int maxHeight) {
+        this.chunks = chunks;
+        this.captured = captured;
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.width = width;
+        this.depth = depth;
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+    }
+
+    public static SnapshotBlockView capture(World world, int minX, int minZ, int maxX, int maxZ) {
+        int minChunkX = minX >> 4;
+        int minChunkZ = minZ >> 4;
+        int width = (maxX >> 4) - minChunkX + 1;
+        int depth = (maxZ >> 4) - minChunkZ + 1;
+        ChunkSnapshot[] chunks = new ChunkSnapshot[width * depth];
+        int captured = 0;
+        for (int cx = 0; cx < width; cx++) {
+            for (int cz = 0; cz < depth; cz++) {
+                if (!world.isChunkLoaded(minChunkX + cx, minChunkZ + cz)) continue;
+                chunks[cx * depth + cz] = world.getChunkAt(minChunkX + cx, minChunkZ + cz).getChunkSnapshot(true, false, false);
+                captured++;
+            }
+        }
+        return new SnapshotBlockView(chunks, captured, minChunkX, minChunkZ, width, depth, world.getMinHeight(), world.getMaxHeight());
+    }
+
+    public int getChunkCount() {
+        return captured;
+    }
+
+    @Override
+    public Material getType(int x, int y, int z) {
+        if (y < minHeight || y >= maxHeight) return Material.VOID_AIR;
+        ChunkSnapshot chunk = chunkAt(x, z);
+        return chunk != null ? chunk.getBlockType(x & 15, y, z & 15) : Material.VOID_AIR;
+    }
+
+    @Override
+    public int getHighestBlockYAt(int x, int z) {
+        ChunkSnapshot chunk = chunkAt(x, z);
+        return chunk != null ? chunk.getHighestBlockYAt(x & 15, z & 15) : minHeight - 1;
+    }
+
+    @Override
+    public int getMinHeight() {
+        return minHeight;
+    }
+
+    @Override
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    private ChunkSnapshot chunkAt(int x, int z) {
+        int cx = (x >> 4) - minChunkX;
+        int cz = (z >> 4) - minChunkZ;
+        if (cx < 0 || cz < 0 || cx >= width || cz >= depth) return null;
+        return chunks[cx * depth + cz];
+    }
+}
@@ -0,0 +1,35 @@
+package com.NguyenDevs.worldScrolls.listeners.scrolls.meteor;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+
+public final class WorldBlockView implements BlockView {
+
+    private final World world;
+
+    public WorldBlockView(World world) {
+        this.world = world;
+    }
+
+    @Override
+    public Material getType(int x, int y, int z) {
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) return Material.VOID_AIR;
+        return world.getType(x, y, z);
+    }
+
+    @Override
+    public int getHighestBlockYAt(int x, int z) {
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) return world.getMinHeight() - 1;
+        return world.getHighestBlockYAt(x, z);
+    }
+
+    @Override
+    public int getMinHeight() {
+        return world.getMinHeight();
+    }
+
+    @Override
+    public int getMaxHeight() {
+        return world.getMaxHeight();
+    }
+}
@@ -0,0 +1,250 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.WorldScrolls;
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+
+public class BlockEditQueue {
+
+    public enum Mode {
+        SET,
+        REPLACE_SOLID,
+        FILL_AIR,
+        EXTINGUISH,
+        EXTINGUISH_UNSUPPORTED
+    }
+
+    private static final int BATCH_CAPACITY = 512;
+    private static final int CLOCK_INTERVAL = 32;
+    private static final int WHEEL_SIZE = 1024;
+
+    private final WorldScrolls plugin;
+    private final ArrayDeque<Batch> batches = new ArrayDeque<>();
+    @SuppressWarnings("unchecked")
+    private final List<Batch>[] wheel = new List[WHEEL_SIZE];
+    private long tick;
+    private int scheduled;
+    private BukkitTask tickTask;
+    private boolean stopping;
+    private int maxBlocksPerTick;
+    private long maxNanosPerTick;
+    private int pending;
+    private long applied;
+
+    public BlockEditQueue(WorldScrolls plugin) {
+        this.plugin = plugin;
+        loadSettings();
+    }
+
+    public void loadSettings() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        int blocks = config != null ? config.getInt("block-edits.max-blocks-per-tick", 400) : 400;
+        int micros = config != null ? config.getInt("block-edits.max-micros-per-tick", 2000) : 2000;
+        this.maxBlocksPerTick = blocks > 0 ? blocks : Integer.MAX_VALUE;
+        this.maxNanosPerTick = micros > 0 ? micros * 1000L : Long.MAX_VALUE;
+    }
+
+    public void start() {
+        if (tickTask != null) return;
+        stopping = false;
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::onTick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        stopping = true;
+        flushScheduled();
+        drain(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    private void flushScheduled() {
+        if (scheduled == 0) return;
+        List<Batch> due = new ArrayList<>();
+        for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+            List<Batch> bucket = wheel[slot];
+            if (bucket == null) continue;
+            due.addAll(bucket);
+            bucket.clear();
+        }
+        due.sort(Comparator.comparingLong(batch -> batch.dueTick));
+        for (Batch batch : due) {
+            batches.addLast(batch);
+            pending += batch.size;
+        }
+        scheduled = 0;
+    }
+
+    public void set(World world, int x, int y, int z, Material material) {
+        edit(world, x, y, z, material, Mode.SET);
+    }
+
+    public void edit(World world, int x, int y, int z, Material material, Mode mode) {
+        if (world == null || y < world.getMinHeight() || y >= world.getMaxHeight()) return;
+        Batch tail = batches.peekLast();
+        if (tail == null || tail.world != world || tail.callback != null || tail.size == BATCH_CAPACITY) {
+            tail = new Batch(world, null, BATCH_CAPACITY);
+            batches.addLast(tail);
+        }
+        tail.keys[tail.size] = BlockKey.pack(x, y, z);
+        tail.materials[tail.size] = material;
+        tail.modes[tail.size] = mode;
+        tail.size++;
+        pending++;
+    }
+
+    public void schedule(World world, int x, int y, int z, Material material, Mode mode, int delayTicks) {
+        if (world == null || y < world.getMinHeight() || y >= world.getMaxHeight()) return;
+        if (delayTicks <= 0 || stopping) {
+            edit(world, x, y, z, material, mode);
+            return;
+        }
+        long due = tick + delayTicks;
+        int slot = (int) (due & (WHEEL_SIZE - 1));
+        List<Batch> bucket = wheel[slot];
+        if (bucket == null) {
+            bucket = new ArrayList<>(2);
+            wheel[slot] = bucket;
+        }
+        Batch tail = bucket.isEmpty() ? null : bucket.get(bucket.size() - 1);
+        if (tail == null || tail.world != world || tail.dueTick != due || tail.size == BATCH_CAPACITY) {
+            tail = new Batch(world, null, 8);
+            tail.dueTick = due;
+            bucket.add(tail);
+        } else if (tail.size == tail.keys.length) {
+            tail.grow();
+        }
+        tail.keys[tail.size] = BlockKey.pack(x, y, z);
+        tail.materials[tail.size] = material;
+        tail.modes[tail.size] = mode;
+        tail.size++;
+        scheduled++;
+    }
+
+    public void then(Runnable callback) {
+        batches.addLast(new Batch(null, callback, 0));
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public int getScheduled() {
+        return scheduled;
+    }
+
+    public long getApplied() {
+        return applied;
+    }
+
+    private void onTick() {
+        tick++;
+        List<Batch> bucket = wheel[(int) (tick & (WHEEL_SIZE - 1))];
+        if (bucket != null && !bucket.isEmpty()) {
+            for (int i = 0; i < bucket.size(); i++) {
+                Batch batch = bucket.get(i);
+                if (batch.dueTick > tick) continue;
+                batches.addLast(batch);
+                scheduled -= batch.size;
+                pending += batch.size;
+                bucket.set(i, null);
+            }
+            bucket.removeIf(Objects::isNull);
+        }
+        if (!batches.isEmpty()) drain(maxBlocksPerTick, maxNanosPerTick);
+    }
+
+    private void drain(int blockBudget, long nanoBudget) {
+        long start = System.nanoTime();
+        int done = 0;
+        while (!batches.isEmpty()) {
+            Batch batch = batches.peekFirst();
+            if (batch.callback != null) {
+                batches.pollFirst();
+                try {
+                    batch.callback.run();
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.WARNING, "Error in queued block edit callback", e);
+                }
+                continue;
+            }
+            while (batch.cursor < batch.size) {
+                if (done >= blockBudget) return;
+                if (done % CLOCK_INTERVAL == 0 && done > 0 && System.nanoTime() - start >= nanoBudget) return;
+                apply(batch.world, batch.keys[batch.cursor], batch.materials[batch.cursor], batch.modes[batch.cursor]);
+                batch.materials[batch.cursor] = null;
+                batch.cursor++;
+                pending--;
+                applied++;
+                done++;
+            }
+            batches.pollFirst();
+        }
+    }
+
+    private void apply(World world, long key, Material material, Mode mode) {
+        int x = BlockKey.x(key);
+        int y = BlockKey.y(key);
+        int z = BlockKey.z(key);
+        Material current = world.getType(x, y, z);
+        switch (mode) {
+            case REPLACE_SOLID:
+                if (!current.isSolid() || current == Material.BEDROCK) return;
+                break;
+            case FILL_AIR:
+                if (!current.isAir()) return;
+                break;
+            case EXTINGUISH:
+                if (current != Material.FIRE && current != Material.SOUL_FIRE) return;
+                break;
+            case EXTINGUISH_UNSUPPORTED:
+                if (current != Material.FIRE && current != Material.SOUL_FIRE) return;
+                if (world.getType(x, y - 1, z).isSolid()) return;
+                break;
+            default:
+                break;
+        }
+        if (current == material) return;
+        world.getBlockAt(x, y, z).setType(material, false);
+    }
+
+    private static final class Batch {
+        private final World world;
+        private final Runnable callback;
+        private long[] keys;
+        private Material[] materials;
+        private Mode[] modes;
+        private int size;
+        private int cursor;
+        private long dueTick;
+
+        Batch(World world, Runnable callback, int capacity) {
+            this.world = world;
+            this.callback = callback;
+            this.keys = new long[capacity];
+            this.materials = new Material[capacity];
+            this.modes = new Mode[capacity];
+        }
+
+        void grow() {
+            int capacity = Math.min(BATCH_CAPACITY, keys.length * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            materials = Arrays.copyOf(materials, capacity);
+            modes = Arrays.copyOf(modes, capacity);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.WorldScrolls;
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+
+public class CastTicker implements Listener {
+
+    public enum Interrupt {
+        MOVED, DAMAGED, TELEPORTED, CHANGED_WORLD, QUIT
+    }
+
+    private final WorldScrolls plugin;
+    private final List<Cast> casts = new ArrayList<>();
+    private final List<Cast> submitted = new ArrayList<>();
+    private final List<Runnable> postTick = new ArrayList<>();
+    private BukkitTask tickTask;
+    private boolean ticking;
+    private int maxActive;
+    private int active;
+    private long started;
+    private long completed;
+    private long cancelled;
+    private long rejected;
+    private long lastTickNanos;
+    private long peakTickNanos;
+    private long interrupted;
+
+    private final LongIntMap watchSlots = new LongIntMap(16);
+    private int[] watchIds = new int[16];
+    private Cast[] watchCasts = new Cast[16];
+    private double[] anchorX = new double[16];
+    private double[] anchorY = new double[16];
+    private double[] anchorZ = new double[16];
+    private double[] maxDistanceSquared = new double[16];
+    private int watched;
+
+    public CastTicker(WorldScrolls plugin) {
+        this.plugin = plugin;
+        loadSettings();
+    }
+
+    public void loadSettings() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        int max = config != null ? config.getInt("casts.max-active", 200) : 200;
+        this.maxActive = max > 0 ? max : Integer.MAX_VALUE;
+    }
+
+    public void start() {
+        if (tickTask != null) return;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        casts.addAll(submitted);
+        submitted.clear();
+        for (Cast cast : casts) cast.cancel();
+        casts.clear();
+    }
+
+    public void addPostTick(Runnable hook) {
+        postTick.add(hook);
+    }
+
+    public boolean submit(Cast cast) {
+        if (active >= maxActive) {
+            rejected++;
+            return false;
+        }
+        cast.ticker = this;
+        active++;
+        started++;
+        if (ticking) submitted.add(cast);
+        else casts.add(cast);
+        return true;
+    }
+
+    private void tick() {
+        long begin = System.nanoTime();
+        ticking = true;
+        int kept = 0;
+        for (int i = 0; i < casts.size(); i++) {
+            Cast cast = casts.get(i);
+            if (!cast.done) {
+                boolean running;
+                try {
+                    running = cast.tick(cast.ticks++);
+                } catch (RuntimeException e) {
+                    plugin.getLogger().log(Level.WARNING, "Cast " + cast.getClass().getSimpleName() + " failed", e);
+                    cast.cancel();
+                    continue;
+                }
+                if (running && !cast.done) {
+                    casts.set(kept++, cast);
+                    continue;
+                }
+                if (!cast.done) {
+                    cast.done = true;
+                    active--;
+                    completed++;
+                    unwatch(cast);
+                }
+            }
+        }
+        for (int i = casts.size() - 1; i >= kept; i--) casts.remove(i);
+        ticking = false;
+        casts.addAll(submitted);
+        submitted.clear();
+        for (int i = 0; i < postTick.size(); i++) {
+            try {
+                postTick.get(i).run();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Post-tick hook failed", e);
+            }
+        }
+
+        lastTickNanos = System.nanoTime() - begin;
+        if (lastTickNanos > peakTickNanos) peakTickNanos = lastTickNanos;
+    }
+
+    public void watch(Player player, Cast cast, Location anchor, double maxDistance) {
+        unwatch(cast);
+        int slot = watchSlots.get(player.getEntityId(), -1);
+        if (slot >= 0) {
+            watchCasts[slot].watchSlot = -1;
+        } else {
+            if (watched == watchIds.length) growWatches();
+            slot = watched++;
+            watchSlots.put(player.getEntityId(), slot);
+        }
+        watchIds[slot] = player.getEntityId();
+        watchCasts[slot] = cast;
+        anchorX[slot] = anchor.getX();
+        anchorY[slot] = anchor.getY();
+        anchorZ[slot] = anchor.getZ();
+        maxDistanceSquared[slot] = maxDistance * maxDistance;
+        cast.watchSlot = slot;
+    }
+
+    public void unwatch(Cast cast) {
+        int slot = cast.watchSlot;
+        if (slot < 0) return;
+        cast.watchSlot = -1;
+        watchSlots.remove(watchIds[slot], -1);
+        int last = --watched;
+        if (slot != last) {
+            watchIds[slot] = watchIds[last];
+            watchCasts[slot] = watchCasts[last];
+            anchorX[slot] = anchorX[last];
+            anchorY[slot] = anchorY[last];
+            anchorZ[slot] = anchorZ[last];
+            maxDistanceSquared[slot] = maxDistanceSquared[last];
+            watchCasts[slot].watchSlot = slot;
+            watchSlots.put(watchIds[slot], slot);
+        }
+        watchCasts[last] = null;
+    }
+
+    private void growWatches() {
+        int capacity = watched * 2;
+        watchIds = Arrays.copyOf(watchIds, capacity);
+        watchCasts = Arrays.copyOf(watchCasts, capacity);
+        anchorX = Arrays.copyOf(anchorX, capacity);
+        anchorY = Arrays.copyOf(anchorY, capacity);
+        anchorZ = Arrays.copyOf(anchorZ, capacity);
+        maxDistanceSquared = Arrays.copyOf(maxDistanceSquared, capacity);
+    }
+
+    private void interrupt(Player player, Interrupt reason) {
+        if (watched == 0) return;
+        int slot = watchSlots.get(player.getEntityId(), -1);
+        if (slot < 0) return;
+        interrupted++;
+        watchCasts[slot].interrupt(reason);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (watched == 0) return;
+        int slot = watchSlots.get(event.getPlayer().getEntityId(), -1);
+        if (slot < 0) return;
+        Location to = event.getTo();
+        if (to == null) return;
+        double dx = to.getX() - anchorX[slot];
+        double dy = to.getY() - anchorY[slot];
+        double dz = to.getZ() - anchorZ[slot];
+        if (dx * dx + dy * dy + dz * dz > maxDistanceSquared[slot]) {
+            interrupted++;
+            watchCasts[slot].interrupt(Interrupt.MOVED);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        interrupt(event.getPlayer(), Interrupt.TELEPORTED);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        interrupt(event.getPlayer(), Interrupt.CHANGED_WORLD);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDamage(EntityDamageEvent event) {
+        if (event.getEntity() instanceof Player player) interrupt(player, Interrupt.DAMAGED);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        interrupt(event.getPlayer(), Interrupt.QUIT);
+    }
+
+    public int getWatched() {
+        return watched;
+    }
+
+    public long getInterrupted() {
+        return interrupted;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    public long getStarted() {
+        return started;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getCancelled() {
+        return cancelled;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getLastTickMicros() {
+        return lastTickNanos / 1000L;
+    }
+
+    public long getPeakTickMicros() {
+        return peakTickNanos / 1000L;
+    }
+
+    public abstract static class Cast {
+        private CastTicker ticker;
+        private int ticks;
+        private int watchSlot = -1;
+        private boolean done;
+
+        protected abstract boolean tick(int ticks);
+
+        protected void onCancel() {
+        }
+
+        protected void onInterrupt(Interrupt reason) {
+        }
+
+        public final void cancel() {
+            if (done) return;
+            done = true;
+            if (ticker != null) {
+                ticker.active--;
+                ticker.cancelled++;
+                ticker.unwatch(this);
+            }
+            onCancel();
+        }
+
+        public final void interrupt(Interrupt reason) {
+            if (done) return;
+            onInterrupt(reason);
+            cancel();
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        public int getTicks() {
+            return ticks;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.NguyenDevs.worldScrolls.managers;
 
 import com.NguyenDevs.worldScrolls.WorldScrolls;
 import com.NguyenDevs.worldScrolls.utils.ColorUtils;
+import com.NguyenDevs.worldScrolls.utils.MessageTemplate;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.configuration.ConfigurationSection;
@@ -23,6 +24,7 @@ public class ConfigManager {
     private final Map<String, FileConfiguration> configs = new HashMap<>();
 
     private final Map<String, ConfigurationSection> scrollConfigs = new HashMap<>();
+    private volatile Map<String, MessageTemplate> templates = new HashMap<>();
 
     private final List<String> configFiles = new ArrayList<>(Arrays.asList(
             "config.yml",
@@ -67,6 +69,31 @@ public class ConfigManager {
         for (String configFile : configFiles) {
             processConfigFile(configFile);
         }
+        compileMessages();
+    }
+
+    private void compileMessages() {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        FileConfiguration messages = getMessages();
+        if (messages != null) {
+            for (String path : messages.getKeys(true)) {
+                if (messages.isString(path)) {
+                    compiled.put(path, MessageTemplate.compile(ColorUtils.colorize(messages.getString(path))));
+                }
+            }
+        }
+        for (String scrollFile : scrollConfigFiles) {
+            String fileName = "scrolls/" + scrollFile;
+            FileConfiguration cfg = getConfig(fileName);
+            ConfigurationSection section = cfg != null ? cfg.getConfigurationSection("messages") : null;
+            if (section == null) continue;
+            for (String path : section.getKeys(true)) {
+                if (section.isString(path)) {
+                    compiled.put(fileName + ":" + path, MessageTemplate.compile(ColorUtils.colorize(section.getString(path))));
+                }
+            }
+        }
+        templates = compiled;
     }
 
     private void processConfigFile(String fileName) {
@@ -202,38 +229,53 @@ public class ConfigManager {
         return getConfig("scrolls/" + scrollFileName + ".yml");
     }
 
+    public MessageTemplate getScrollTemplate(String scrollFileName, String path) {
+        String fileName = "scrolls/" + scrollFileName + ".yml";
+        MessageTemplate template = templates.get(fileName + ":" + path);
+        if (template != null) return template;
+        FileConfiguration cfg = getConfig(fileName);
+        String msg = cfg != null ? cfg.getString("messages." + path, "Message not found: " + path) : "Message not found: " + path;
+        return cacheTemplate(fileName + ":" + path, msg);
+    }
+
     public String getScrollMessage(String scrollFileName, String path, Map<String, String> placeholders) {
-        FileConfiguration cfg = getScrollMessageConfig(scrollFileName);
-        if (cfg == null) return "Message not found: " + path;
-        String msg = cfg.getString("messages." + path, "Message not found: " + path);
-        msg = ColorUtils.colorize(msg);
-        if (placeholders != null) {
-            for (Map.Entry<String, String> e : placeholders.entrySet()) {
-                msg = msg.replace("%" + e.getKey() + "%", e.getValue());
-            }
-        }
-        return msg;
+        return getScrollTemplate(scrollFileName, path).render(placeholders);
+    }
+
+    public String getScrollMessage(String scrollFileName, String path, Object... keyValues) {
+        return getScrollTemplate(scrollFileName, path).render(keyValues);
     }
 
     public String getScrollMessage(String scrollFileName, String path) {
-        return getScrollMessage(scrollFileName, path, null);
+        return getScrollTemplate(scrollFileName, path).render();
     }
 
-    public String getMessage(String path) {
+    public MessageTemplate getTemplate(String path) {
+        MessageTemplate template = templates.get(path);
+        if (template != null) return template;
         FileConfiguration messages = getMessages();
-        if (messages == null) return "Message not found: " + path;
-        String message = messages.getString(path, "Message not found: " + path);
-        return ColorUtils.colorize(message);
+        String message = messages != null ? messages.getString(path, "Message not found: " + path) : "Message not found: " + path;
+        return cacheTemplate(path, message);
+    }
+
+    public String getMessage(String path) {
+        return getTemplate(path).render();
     }
 
     public String getMessage(String path, Map<String, String> placeholders) {
-        String message = getMessage(path);
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                message = message.replace("%" + entry.getKey() + "%", entry.getValue());
-            }
-        }
-        return message;
+        return getTemplate(path).render(placeholders);
+    }
+
+    public String getMessage(String path, Object... keyValues) {
+        return getTemplate(path).render(keyValues);
+    }
+
+    private MessageTemplate cacheTemplate(String key, String message) {
+        MessageTemplate template = MessageTemplate.compile(ColorUtils.colorize(message));
+        Map<String, MessageTemplate> updated = new HashMap<>(templates);
+        updated.put(key, template);
+        templates = updated;
+        return template;
     }
 
     public String getPrefix() {
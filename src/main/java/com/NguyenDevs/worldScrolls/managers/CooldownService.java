@@ -0,0 +1,271 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.WorldScrolls;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+
+public class CooldownService {
+
+    public static final String GLOBAL = "global";
+    private static final int COMPACT_MIN_RECORDS = 1024;
+    private static final int COMPACT_CHECK_FLUSHES = 60;
+
+    private final WorldScrolls plugin;
+    private final ConcurrentHashMap<UUID, AtomicLongArray> expiries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, String> bucketNames = new ConcurrentHashMap<>();
+    private final CooldownStore store;
+    private final AtomicInteger nextBucket = new AtomicInteger();
+    private final int globalBucket;
+    private volatile Map<String, ScrollCooldown> scrolls = Collections.emptyMap();
+    private volatile long globalMillis;
+    private BukkitTask evictTask;
+    private BukkitTask flushTask;
+    private long evictIntervalTicks;
+    private volatile boolean persist;
+    private int flushes;
+
+    public CooldownService(WorldScrolls plugin) {
+        this.plugin = plugin;
+        this.store = new CooldownStore(new File(plugin.getDataFolder(), "cooldowns.dat"));
+        this.globalBucket = bucket(GLOBAL);
+        loadSettings();
+        if (persist) loadStore();
+    }
+
+    private void loadStore() {
+        long started = System.nanoTime();
+        try {
+            List<CooldownStore.Entry> entries = store.load(this::bucket, System.currentTimeMillis());
+            for (CooldownStore.Entry entry : entries) {
+                slots(entry.getPlayerId(), entry.getBucket()).set(entry.getBucket(), entry.getExpiresAt());
+            }
+            plugin.getLogger().info("Restored " + entries.size() + " cooldowns in " + (System.nanoTime() - started) / 1_000_000 + " ms");
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not load cooldowns", e);
+        }
+    }
+
+    public void loadSettings() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        this.globalMillis = Math.max(0, config != null ? config.getInt("cooldowns.global", 0) : 0) * 1000L;
+        ConfigurationSection categories = config != null ? config.getConfigurationSection("cooldowns.categories") : null;
+        long interval = Math.max(1, config != null ? config.getInt("cooldowns.eviction-interval", 60) : 60) * 20L;
+        this.persist = config == null || config.getBoolean("cooldowns.persist", true);
+
+        Map<String, ScrollCooldown> loaded = new HashMap<>();
+        FileConfiguration scrollsConfig = plugin.getConfigManager().getScrolls();
+        if (scrollsConfig != null) {
+            for (String scrollId : scrollsConfig.getKeys(false)) {
+                ConfigurationSection entry = scrollsConfig.getConfigurationSection(scrollId);
+                if (entry == null) continue;
+                String category = entry.getString("category");
+                int categoryBucket = category != null ? bucket("category:" + category.toLowerCase()) : -1;
+                long categoryMillis = category != null && categories != null
+                        ? Math.max(0, categories.getInt(category.toLowerCase(), 0)) * 1000L : 0;
+                loaded.put(scrollId, new ScrollCooldown(bucket("scroll:" + scrollId), Math.max(0, entry.getInt("cooldown", 0)) * 1000L,
+                        categoryBucket, categoryMillis));
+            }
+        }
+        this.scrolls = loaded;
+
+        if (evictTask != null && interval != evictIntervalTicks) {
+            stop();
+            this.evictIntervalTicks = interval;
+            start();
+        }
+        this.evictIntervalTicks = interval;
+    }
+
+    public void start() {
+        if (evictTask != null) return;
+        evictTask = Bukkit.getScheduler().runTaskTimer(plugin, this::evictExpired, evictIntervalTicks, evictIntervalTicks);
+        if (flushTask == null) {
+            flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flushStore, 20L, 20L);
+        }
+    }
+
+    public void stop() {
+        if (evictTask != null) {
+            evictTask.cancel();
+            evictTask = null;
+        }
+    }
+
+    public void shutdown() {
+        stop();
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        try {
+            store.flush(bucketNames::get);
+            if (persist) store.compact(snapshot(), bucketNames::get);
+            store.close();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not save cooldowns", e);
+        }
+    }
+
+    private void flushStore() {
+        try {
+            store.flush(bucketNames::get);
+            if (++flushes % COMPACT_CHECK_FLUSHES == 0 && store.getRecords() > COMPACT_MIN_RECORDS) {
+                List<CooldownStore.Entry> live = snapshot();
+                if (store.getRecords() > live.size() * 4) store.compact(live, bucketNames::get);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not write cooldowns", e);
+        }
+    }
+
+    private List<CooldownStore.Entry> snapshot() {
+        long now = System.currentTimeMillis();
+        List<CooldownStore.Entry> live = new ArrayList<>();
+        for (Map.Entry<UUID, AtomicLongArray> entry : expiries.entrySet()) {
+            AtomicLongArray slots = entry.getValue();
+            for (int i = 0; i < slots.length(); i++) {
+                long expiresAt = slots.get(i);
+                if (expiresAt > now && isPersistent(i)) live.add(new CooldownStore.Entry(entry.getKey(), i, expiresAt));
+            }
+        }
+        return live;
+    }
+
+    private boolean isPersistent(int bucket) {
+        String name = bucketNames.get(bucket);
+        return name != null && !name.startsWith("debounce:");
+    }
+
+    public int bucket(String name) {
+        return buckets.computeIfAbsent(name, key -> {
+            int index = nextBucket.getAndIncrement();
+            bucketNames.put(index, key);
+            return index;
+        });
+    }
+
+    public long getRemaining(UUID playerId, String scrollId) {
+        AtomicLongArray slots = expiries.get(playerId);
+        if (slots == null) return 0;
+        long now = System.currentTimeMillis();
+        long until = get(slots, globalBucket);
+        ScrollCooldown cooldown = scrolls.get(scrollId);
+        if (cooldown != null) {
+            until = Math.max(until, get(slots, cooldown.bucket));
+            if (cooldown.categoryBucket >= 0) until = Math.max(until, get(slots, cooldown.categoryBucket));
+        }
+        return Math.max(0, until - now);
+    }
+
+    public long getRemainingSeconds(UUID playerId, String scrollId) {
+        return getRemaining(playerId, scrollId) / 1000L;
+    }
+
+    public long getRemaining(UUID playerId, int bucket) {
+        AtomicLongArray slots = expiries.get(playerId);
+        return slots == null ? 0 : Math.max(0, get(slots, bucket) - System.currentTimeMillis());
+    }
+
+    public boolean tryUse(UUID playerId, String scrollId) {
+        if (getRemaining(playerId, scrollId) > 0) return false;
+        ScrollCooldown cooldown = scrolls.get(scrollId);
+        long now = System.currentTimeMillis();
+        if (globalMillis > 0) set(playerId, globalBucket, now + globalMillis);
+        if (cooldown != null) {
+            if (cooldown.millis > 0) set(playerId, cooldown.bucket, now + cooldown.millis);
+            if (cooldown.categoryBucket >= 0 && cooldown.categoryMillis > 0) {
+                set(playerId, cooldown.categoryBucket, now + cooldown.categoryMillis);
+            }
+        }
+        return true;
+    }
+
+    public boolean tryAcquire(UUID playerId, int bucket, long millis) {
+        long now = System.currentTimeMillis();
+        AtomicLongArray slots = slots(playerId, bucket);
+        long current = slots.get(bucket);
+        return current <= now && slots.compareAndSet(bucket, current, now + millis);
+    }
+
+    public void reset(UUID playerId, String scrollId) {
+        AtomicLongArray slots = expiries.get(playerId);
+        ScrollCooldown cooldown = scrolls.get(scrollId);
+        if (slots == null || cooldown == null) return;
+        clear(playerId, slots, cooldown.bucket);
+        if (cooldown.categoryBucket >= 0) clear(playerId, slots, cooldown.categoryBucket);
+        clear(playerId, slots, globalBucket);
+    }
+
+    private void clear(UUID playerId, AtomicLongArray slots, int bucket) {
+        if (bucket >= slots.length() || slots.get(bucket) == 0) return;
+        slots.set(bucket, 0);
+        if (persist) store.append(playerId, bucket, 0);
+    }
+
+    public void set(UUID playerId, int bucket, long expiresAt) {
+        slots(playerId, bucket).set(bucket, expiresAt);
+        if (persist && isPersistent(bucket)) store.append(playerId, bucket, expiresAt);
+    }
+
+    public int getTrackedPlayers() {
+        return expiries.size();
+    }
+
+    private AtomicLongArray slots(UUID playerId, int bucket) {
+        AtomicLongArray slots = expiries.computeIfAbsent(playerId, id -> new AtomicLongArray(Math.max(8, nextBucket.get())));
+        if (bucket < slots.length()) return slots;
+        return expiries.compute(playerId, (id, current) -> {
+            if (current != null && bucket < current.length()) return current;
+            AtomicLongArray grown = new AtomicLongArray(Math.max(bucket + 1, nextBucket.get()) * 2);
+            if (current != null) {
+                for (int i = 0; i < current.length(); i++) grown.set(i, current.get(i));
+            }
+            return grown;
+        });
+    }
+
+    private static long get(AtomicLongArray slots, int bucket) {
+        return bucket < slots.length() ? slots.get(bucket) : 0;
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        expiries.entrySet().removeIf(entry -> {
+            AtomicLongArray slots = entry.getValue();
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) > now) return false;
+            }
+            return true;
+        });
+    }
+
+    private static final class ScrollCooldown {
+        private final int bucket;
+        private final long millis;
+        private final int categoryBucket;
+        private final long categoryMillis;
+
+        ScrollCooldown(int bucket, long millis, int categoryBucket, long categoryMillis) {
+            this.bucket = bucket;
+            this.millis = millis;
+            this.categoryBucket = categoryBucket;
+            this.categoryMillis = categoryMillis;
+        }
+    }
+}
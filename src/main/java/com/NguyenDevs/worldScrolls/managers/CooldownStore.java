@@ -0,0 +1,182 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+public class CooldownStore {
+
+    private static final int MAGIC = 0x57534344;
+    private static final int VERSION = 1;
+    private static final byte BUCKET = 'B';
+    private static final byte SET = 'S';
+
+    private final File file;
+    private final ConcurrentLinkedQueue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final BitSet writtenBuckets = new BitSet();
+    private DataOutputStream out;
+    private int records;
+
+    public CooldownStore(File file) {
+        this.file = file;
+    }
+
+    public List<Entry> load(Function<String, Integer> bucketResolver, long now) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!file.exists()) return entries;
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) return entries;
+        List<Integer> remap = new ArrayList<>();
+        Map<UUID, Map<Integer, Entry>> latest = new HashMap<>();
+        int read = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                byte type = buffer.get();
+                if (type == BUCKET) {
+                    int id = buffer.getInt();
+                    byte[] name = new byte[buffer.getShort() & 0xFFFF];
+                    buffer.get(name);
+                    while (remap.size() <= id) remap.add(-1);
+                    remap.set(id, bucketResolver.apply(new String(name, StandardCharsets.UTF_8)));
+                } else if (type == SET) {
+                    long msb = buffer.getLong();
+                    long lsb = buffer.getLong();
+                    int id = buffer.getInt();
+                    long expiresAt = buffer.getLong();
+                    read++;
+                    if (id < remap.size() && remap.get(id) >= 0) {
+                        UUID playerId = new UUID(msb, lsb);
+                        int bucket = remap.get(id);
+                        latest.computeIfAbsent(playerId, key -> new HashMap<>()).put(bucket, new Entry(playerId, bucket, expiresAt));
+                    }
+                } else {
+                    break;
+                }
+            }
+        } catch (BufferUnderflowException ignored) {
+        }
+        records = read;
+        for (Map<Integer, Entry> buckets : latest.values()) {
+            for (Entry entry : buckets.values()) {
+                if (entry.expiresAt > now) entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    public void append(UUID playerId, int bucket, long expiresAt) {
+        pending.add(new Entry(playerId, bucket, expiresAt));
+    }
+
+    public synchronized void flush(Function<Integer, String> bucketNames) throws IOException {
+        if (pending.isEmpty()) return;
+        DataOutputStream stream = open();
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            write(stream, entry, bucketNames);
+        }
+        stream.flush();
+    }
+
+    public synchronized int getRecords() {
+        return records;
+    }
+
+    public synchronized void compact(List<Entry> live, Function<Integer, String> bucketNames) throws IOException {
+        close();
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        writtenBuckets.clear();
+        records = 0;
+        try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            stream.writeInt(MAGIC);
+            stream.writeInt(VERSION);
+            for (Entry entry : live) write(stream, entry, bucketNames);
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        writtenBuckets.clear();
+        records = live.size();
+        for (Entry entry : live) writtenBuckets.set(entry.bucket);
+    }
+
+    public synchronized void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private DataOutputStream open() throws IOException {
+        if (out != null) return out;
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) parent.mkdirs();
+        boolean fresh = !file.exists() || file.length() == 0;
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        if (fresh) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writtenBuckets.clear();
+        }
+        return out;
+    }
+
+    private void write(DataOutputStream stream, Entry entry, Function<Integer, String> bucketNames) throws IOException {
+        if (!writtenBuckets.get(entry.bucket)) {
+            byte[] name = bucketNames.apply(entry.bucket).getBytes(StandardCharsets.UTF_8);
+            stream.writeByte(BUCKET);
+            stream.writeInt(entry.bucket);
+            stream.writeShort(name.length);
+            stream.write(name);
+            writtenBuckets.set(entry.bucket);
+        }
+        stream.writeByte(SET);
+        stream.writeLong(entry.playerId.getMostSignificantBits());
+        stream.writeLong(entry.playerId.getLeastSignificantBits());
+        stream.writeInt(entry.bucket);
+        stream.writeLong(entry.expiresAt);
+        records++;
+    }
+
+    public static final class Entry {
+        private final UUID playerId;
+        private final int bucket;
+        private final long expiresAt;
+
+        public Entry(UUID playerId, int bucket, long expiresAt) {
+            this.playerId = playerId;
+            this.bucket = bucket;
+            this.expiresAt = expiresAt;
+        }
+
+        public UUID getPlayerId() {
+            return playerId;
+        }
+
+        public int getBucket() {
+            return bucket;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.WorldScrolls;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+public class EntityQueryCache {
+
+    private static final int IDLE_TICKS = 200;
+    private static final double SCAN_MARGIN = 2.0;
+
+    private final WorldScrolls plugin;
+    private final Map<UUID, WorldScans> worlds = new HashMap<>();
+    private BukkitTask tickTask;
+    private long tick;
+    private long scans;
+    private long hits;
+
+    public EntityQueryCache(WorldScrolls plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (tickTask != null) return;
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::onTick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        worlds.clear();
+    }
+
+    private void onTick() {
+        tick++;
+        if (tick % IDLE_TICKS == 0) {
+            worlds.values().removeIf(scans -> tick - scans.lastQueried > IDLE_TICKS);
+        }
+    }
+
+    public View getLivingEntities(Location center, double halfExtent, View out) {
+        return getLivingEntities(center.getWorld(), center.getX(), center.getY(), center.getZ(), halfExtent, out);
+    }
+
+    public View getLivingEntities(World world, double x, double y, double z, double halfExtent, View out) {
+        out.clear();
+        if (world == null) return out;
+        WorldScans worldScans = worlds.computeIfAbsent(world.getUID(), id -> new WorldScans());
+        if (worldScans.tick != tick) {
+            worldScans.reset();
+            worldScans.tick = tick;
+        }
+        worldScans.lastQueried = tick;
+
+        int scan = worldScans.find(x, y, z, halfExtent);
+        if (scan >= 0) {
+            hits++;
+        } else {
+            scans++;
+            scan = worldScans.scan(world, x, y, z, halfExtent);
+        }
+        worldScans.collect(scan, x, y, z, halfExtent, out);
+        return out;
+    }
+
+    public long getScans() {
+        return scans;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    private static final class WorldScans {
+        private final Location scratch = new Location(null, 0, 0, 0);
+        private LivingEntity[] entities = new LivingEntity[64];
+        private double[] xs = new double[64];
+        private double[] ys = new double[64];
+        private double[] zs = new double[64];
+        private int count;
+        private double[] boxes = new double[32];
+        private int[] ranges = new int[16];
+        private int scanCount;
+        private long tick = -1;
+        private long lastQueried;
+
+        void reset() {
+            Arrays.fill(entities, 0, count, null);
+            count = 0;
+            scanCount = 0;
+        }
+
+        int find(double x, double y, double z, double halfExtent) {
+            for (int s = 0; s < scanCount; s++) {
+                int b = s * 4;
+                double reach = boxes[b + 3] - halfExtent;
+                if (reach >= 0 && Math.abs(x - boxes[b]) <= reach && Math.abs(y - boxes[b + 1]) <= reach
+                        && Math.abs(z - boxes[b + 2]) <= reach) {
+                    return s;
+                }
+            }
+            return -1;
+        }
+
+        int scan(World world, double x, double y, double z, double halfExtent) {
+            halfExtent += SCAN_MARGIN;
+            if (scanCount * 4 == boxes.length) {
+                boxes = Arrays.copyOf(boxes, boxes.length * 2);
+                ranges = Arrays.copyOf(ranges, ranges.length * 2);
+            }
+            int s = scanCount++;
+            boxes[s * 4] = x;
+            boxes[s * 4 + 1] = y;
+            boxes[s * 4 + 2] = z;
+            boxes[s * 4 + 3] = halfExtent;
+
+            scratch.setWorld(world);
+            scratch.setX(x);
+            scratch.setY(y);
+            scratch.setZ(z);
+            Collection<Entity> found = world.getNearbyEntities(scratch, halfExtent, halfExtent, halfExtent,
+                    entity -> entity instanceof LivingEntity);
+            ensureCapacity(count + found.size());
+            for (Entity entity : found) {
+                entity.getLocation(scratch);
+                entities[count] = (LivingEntity) entity;
+                xs[count] = scratch.getX();
+                ys[count] = scratch.getY();
+                zs[count] = scratch.getZ();
+                count++;
+            }
+            scratch.setWorld(null);
+            ranges[s] = count;
+            return s;
+        }
+
+        void collect(int scan, double x, double y, double z, double halfExtent, View out) {
+            int start = scan == 0 ? 0 : ranges[scan - 1];
+            for (int i = start, end = ranges[scan]; i < end; i++) {
+                if (Math.abs(xs[i] - x) <= halfExtent && Math.abs(ys[i] - y) <= halfExtent
+                        && Math.abs(zs[i] - z) <= halfExtent && entities[i].isValid()) {
+                    out.add(entities[i], xs[i], ys[i], zs[i]);
+                }
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (entities.length >= capacity) return;
+            int grown = Math.max(capacity, entities.length * 2);
+            entities = Arrays.copyOf(entities, grown);
+            xs = Arrays.copyOf(xs, grown);
+            ys = Arrays.copyOf(ys, grown);
+            zs = Arrays.copyOf(zs, grown);
+        }
+    }
+
+    public static final class View {
+        private LivingEntity[] entities = new LivingEntity[16];
+        private double[] xs = new double[16];
+        private double[] ys = new double[16];
+        private double[] zs = new double[16];
+        private int size;
+
+        public int size() {
+            return size;
+        }
+
+        public LivingEntity get(int index) {
+            return entities[index];
+        }
+
+        public double getX(int index) {
+            return xs[index];
+        }
+
+        public double getY(int index) {
+            return ys[index];
+        }
+
+        public double getZ(int index) {
+            return zs[index];
+        }
+
+        public void clear() {
+            Arrays.fill(entities, 0, size, null);
+            size = 0;
+        }
+
+        private void add(LivingEntity entity, double x, double y, double z) {
+            if (size == entities.length) {
+                int grown = size * 2;
+                entities = Arrays.copyOf(entities, grown);
+                xs = Arrays.copyOf(xs, grown);
+                ys = Arrays.copyOf(ys, grown);
+                zs = Arrays.copyOf(zs, grown);
+            }
+            entities[size] = entity;
+            xs[size] = x;
+            ys[size] = y;
+            zs[size] = z;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.WorldScrolls;
+import org.bukkit.Bukkit;
+import org.bukkit.Particle;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+public class ParticleBudget {
+
+    private final WorldScrolls plugin;
+    private BukkitTask tickTask;
+    private int maxPerTick;
+    private double fullDetailDistance;
+    private double maxDistance;
+    private double minDetail;
+    private int remaining;
+    private long spawned;
+    private long dropped;
+
+    public ParticleBudget(WorldScrolls plugin) {
+        this.plugin = plugin;
+        loadSettings();
+    }
+
+    public void loadSettings() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        int max = config != null ? config.getInt("particles.max-per-tick", 3000) : 3000;
+        this.maxPerTick = max > 0 ? max : Integer.MAX_VALUE;
+        this.maxDistance = Math.max(1.0, config != null ? config.getDouble("particles.max-distance", 32.0) : 32.0);
+        this.fullDetailDistance = Math.min(maxDistance, config != null ? config.getDouble("particles.full-detail-distance", 16.0) : 16.0);
+        this.minDetail = Math.max(0.0, Math.min(1.0, config != null ? config.getDouble("particles.min-detail", 0.2) : 0.2));
+        this.remaining = maxPerTick;
+    }
+
+    public void start() {
+        if (tickTask != null) return;
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> remaining = maxPerTick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+
+    public double getMaxDistance() {
+        return maxDistance;
+    }
+
+    public boolean hasBudget() {
+        return remaining > 0;
+    }
+
+    public double getDetail(double distanceSquared, int concurrentEmitters) {
+        if (distanceSquared > maxDistance * maxDistance) return 0;
+        double detail = 1.0;
+        if (distanceSquared > fullDetailDistance * fullDetailDistance) {
+            double t = (Math.sqrt(distanceSquared) - fullDetailDistance) / (maxDistance - fullDetailDistance);
+            detail = 1.0 - t * (1.0 - minDetail);
+        }
+        if (concurrentEmitters > 1) {
+            detail /= Math.sqrt(concurrentEmitters);
+        }
+        return detail;
+    }
+
+    public boolean spawn(Player player, Particle particle, double x, double y, double z, int count,
+                         double offsetX, double offsetY, double offsetZ, double extra, double detail) {
+        if (remaining <= 0) {
+            dropped += count;
+            return false;
+        }
+        int scaled = (int) Math.ceil(count * detail);
+        if (scaled <= 0) return true;
+        if (scaled > remaining) {
+            dropped += scaled - remaining;
+            scaled = remaining;
+        }
+        remaining -= scaled;
+        spawned += scaled;
+        player.spawnParticle(particle, x, y, z, scaled, offsetX, offsetY, offsetZ, extra);
+        return remaining > 0;
+    }
+
+    public long getSpawned() {
+        return spawned;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+}
@@ -0,0 +1,140 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.WorldScrolls;
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class PhantomBlockRegistry implements Listener {
+
+    private final WorldScrolls plugin;
+    private final Map<UUID, PlayerPhantoms> players = new HashMap<>();
+    private final ConcurrentLinkedQueue<ChunkReload> reloads = new ConcurrentLinkedQueue<>();
+    private PacketAdapter chunkListener;
+    private BukkitTask tickTask;
+    private long nextGeneration = 1;
+
+    public PhantomBlockRegistry(WorldScrolls plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        chunkListener = new PacketAdapter(plugin, ListenerPriority.MONITOR,
+                PacketType.Play.Server.MAP_CHUNK, PacketType.Play.Server.UNLOAD_CHUNK) {
+            @Override
+            public void onPacketSending(PacketEvent event) {
+                if (event.isPlayerTemporary()) return;
+                try {
+                    int chunkX = event.getPacket().getIntegers().read(0);
+                    int chunkZ = event.getPacket().getIntegers().read(1);
+                    reloads.add(new ChunkReload(event.getPlayer().getUniqueId(), BlockKey.chunk(chunkX, chunkZ)));
+                } catch (Exception ignored) {}
+            }
+        };
+        ProtocolLibrary.getProtocolManager().addPacketListener(chunkListener);
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::processReloads, 1L, 1L);
+    }
+
+    public void stop() {
+        if (chunkListener != null) {
+            ProtocolLibrary.getProtocolManager().removePacketListener(chunkListener);
+            chunkListener = null;
+        }
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        players.clear();
+        reloads.clear();
+    }
+
+    public long getGeneration(Player player) {
+        return players.computeIfAbsent(player.getUniqueId(), id -> new PlayerPhantoms(nextGeneration++)).generation;
+    }
+
+    public void add(Player player, long key) {
+        PlayerPhantoms phantoms = players.computeIfAbsent(player.getUniqueId(), id -> new PlayerPhantoms(nextGeneration++));
+        phantoms.blocks.put(key, phantoms.blocks.get(key, 0) + 1);
+    }
+
+    public void remove(Player player, long key) {
+        PlayerPhantoms phantoms = players.get(player.getUniqueId());
+        if (phantoms == null) return;
+        int count = phantoms.blocks.remove(key, 0);
+        if (count > 1) phantoms.blocks.put(key, count - 1);
+    }
+
+    public int getTrackedPlayers() {
+        return players.size();
+    }
+
+    public int getTrackedBlocks() {
+        int total = 0;
+        for (PlayerPhantoms phantoms : players.values()) total += phantoms.blocks.size();
+        return total;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        players.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        players.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void processReloads() {
+        ChunkReload reload;
+        while ((reload = reloads.poll()) != null) {
+            PlayerPhantoms phantoms = players.get(reload.playerId);
+            if (phantoms == null || phantoms.blocks.isEmpty()) continue;
+            boolean dropped = false;
+            for (int i = phantoms.blocks.size() - 1; i >= 0; i--) {
+                long key = phantoms.blocks.keyAt(i);
+                if (BlockKey.chunkOf(key) == reload.chunk) {
+                    phantoms.blocks.remove(key, 0);
+                    dropped = true;
+                }
+            }
+            if (dropped) phantoms.generation = nextGeneration++;
+        }
+    }
+
+    private static final class PlayerPhantoms {
+        private final LongIntMap blocks = new LongIntMap(64);
+        private long generation;
+
+        PlayerPhantoms(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private static final class ChunkReload {
+        private final UUID playerId;
+        private final long chunk;
+
+        ChunkReload(UUID playerId, long chunk) {
+            this.playerId = playerId;
+            this.chunk = chunk;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.NguyenDevs.worldScrolls.managers;
+
+import com.NguyenDevs.worldScrolls.WorldScrolls;
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+public class PlayerSpatialIndex {
+
+    private static final int CELL_SHIFT = 4;
+    private static final int IDLE_TICKS = 200;
+
+    private final WorldScrolls plugin;
+    private final Map<UUID, WorldIndex> worlds = new HashMap<>();
+    private BukkitTask tickTask;
+    private long tick;
+
+    public PlayerSpatialIndex(WorldScrolls plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (tickTask != null) return;
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::onTick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        worlds.clear();
+    }
+
+    private void onTick() {
+        tick++;
+        if (tick % IDLE_TICKS == 0) {
+            worlds.values().removeIf(index -> tick - index.lastQueried > IDLE_TICKS);
+        }
+    }
+
+    public List<Player> getPlayersInRadius(World world, double x, double y, double z, double radius, List<Player> out) {
+        WorldIndex index = getIndex(world);
+        if (index != null) index.query(x, y, z, radius, false, out);
+        return out;
+    }
+
+    public List<Player> getPlayersInHorizontalRadius(World world, double x, double z, double radius, List<Player> out) {
+        WorldIndex index = getIndex(world);
+        if (index != null) index.query(x, 0, z, radius, true, out);
+        return out;
+    }
+
+    private WorldIndex getIndex(World world) {
+        if (world == null) return null;
+        WorldIndex index = worlds.computeIfAbsent(world.getUID(), id -> new WorldIndex());
+        if (index.builtAt != tick) {
+            index.rebuild(world);
+            index.builtAt = tick;
+        }
+        index.lastQueried = tick;
+        return index;
+    }
+
+    private static final class WorldIndex {
+        private final Location scratch = new Location(null, 0, 0, 0);
+        private final LongIntMap cells = new LongIntMap(64);
+        private Player[] players = new Player[32];
+        private double[] xs = new double[32];
+        private double[] ys = new double[32];
+        private double[] zs = new double[32];
+        private int[] cellOf = new int[32];
+        private int[] order = new int[32];
+        private int[] cellStart = new int[65];
+        private int count;
+        private long builtAt = -1;
+        private long lastQueried;
+
+        void rebuild(World world) {
+            Arrays.fill(players, 0, count, null);
+            List<Player> online = world.getPlayers();
+            count = online.size();
+            if (players.length < count) {
+                int capacity = count * 2;
+                players = new Player[capacity];
+                xs = new double[capacity];
+                ys = new double[capacity];
+                zs = new double[capacity];
+                cellOf = new int[capacity];
+                order = new int[capacity];
+            }
+
+            cells.clear();
+            for (int i = 0; i < count; i++) {
+                Player player = online.get(i);
+                player.getLocation(scratch);
+                players[i] = player;
+                xs[i] = scratch.getX();
+                ys[i] = scratch.getY();
+                zs[i] = scratch.getZ();
+                long cell = BlockKey.chunk(scratch.getBlockX() >> CELL_SHIFT, scratch.getBlockZ() >> CELL_SHIFT);
+                int id = cells.get(cell, -1);
+                if (id < 0) {
+                    id = cells.size();
+                    cells.put(cell, id);
+                }
+                cellOf[i] = id;
+            }
+            scratch.setWorld(null);
+
+            int cellCount = cells.size();
+            if (cellStart.length < cellCount + 1) cellStart = new int[(cellCount + 1) * 2];
+            Arrays.fill(cellStart, 0, cellCount + 1, 0);
+            for (int i = 0; i < count; i++) cellStart[cellOf[i] + 1]++;
+            for (int c = 0; c < cellCount; c++) cellStart[c + 1] += cellStart[c];
+            for (int i = 0; i < count; i++) order[cellStart[cellOf[i]]++] = i;
+            for (int c = cellCount; c > 0; c--) cellStart[c] = cellStart[c - 1];
+            cellStart[0] = 0;
+        }
+
+        void query(double x, double y, double z, double radius, boolean horizontal, List<Player> out) {
+            if (count == 0) return;
+            double radiusSquared = radius * radius;
+            int minX = (int) Math.floor(x - radius) >> CELL_SHIFT;
+            int maxX = (int) Math.floor(x + radius) >> CELL_SHIFT;
+            int minZ = (int) Math.floor(z - radius) >> CELL_SHIFT;
+            int maxZ = (int) Math.floor(z + radius) >> CELL_SHIFT;
+            long area = (long) (maxX - minX + 1) * (maxZ - minZ + 1);
+
+            if (area > cells.size()) {
+                for (int c = 0; c < cells.size(); c++) {
+                    long cell = cells.keyAt(c);
+                    int cx = (int) cell;
+                    int cz = (int) (cell >>> 32);
+                    if (cx < minX || cx > maxX || cz < minZ || cz > maxZ) continue;
+                    collect(c, x, y, z, radiusSquared, horizontal, out);
+                }
+                return;
+            }
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    int c = cells.get(BlockKey.chunk(cx, cz), -1);
+                    if (c >= 0) collect(c, x, y, z, radiusSquared, horizontal, out);
+                }
+            }
+        }
+
+        private void collect(int cell, double x, double y, double z, double radiusSquared, boolean horizontal, List<Player> out) {
+            for (int o = cellStart[cell], end = cellStart[cell + 1]; o < end; o++) {
+                int i = order[o];
+                double dx = xs[i] - x;
+                double dz = zs[i] - z;
+                double distanceSquared = dx * dx + dz * dz;
+                if (!horizontal) {
+                    double dy = ys[i] - y;
+                    distanceSquared += dy * dy;
+                }
+                if (distanceSquared <= radiusSquared && players[i].isOnline()) {
+                    out.add(players[i]);
+                }
+            }
+        }
+    }
+}
@@ -48,7 +48,7 @@ public class RecipeManager {
             }
 
             currentScrollIds.add(scrollId);
-            String newHash = generateRecipeHash(recipeData, scrollData, scrollId);
+            String newHash = generateRecipeHash(recipeData, scrollData, configManager.getScrollConfig(scrollId));
             String oldHash = recipeHashes.get(scrollId);
 
             if (!newHash.equals(oldHash) || !registeredRecipes.containsKey(scrollId)) {
@@ -185,7 +185,7 @@ public class RecipeManager {
         }
     }
 
-    private String generateRecipeHash(ConfigurationSection recipeData, ConfigurationSection scrollData, String scrollId) {
+    static String generateRecipeHash(ConfigurationSection recipeData, ConfigurationSection scrollData, ConfigurationSection scrollConfig) {
         StringBuilder sb = new StringBuilder();
 
         List<String> shape = recipeData.getStringList("recipe");
@@ -207,7 +207,6 @@ public class RecipeManager {
         sb.append("enabled=").append(scrollData.getBoolean("enabled", true)).append(";");
         sb.append("craftable=").append(scrollData.getBoolean("craftable", true)).append("|");
 
-        ConfigurationSection scrollConfig = configManager.getScrollConfig(scrollId);
         if (scrollConfig != null) {
             sb.append("SCROLL_CONFIG:");
             sb.append("material=").append(scrollConfig.getString("material", "PAPER")).append(";");
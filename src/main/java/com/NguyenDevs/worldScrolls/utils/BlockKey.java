@@ -0,0 +1,39 @@
+package com.NguyenDevs.worldScrolls.utils;
+
+public final class BlockKey {
+
+    private BlockKey() {
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int x(long key) {
+        return (int) (key >> 38);
+    }
+
+    public static int y(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    public static int z(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    public static long section(long key) {
+        return pack(x(key) >> 4, y(key) >> 4, z(key) >> 4);
+    }
+
+    public static long chunk(int chunkX, int chunkZ) {
+        return ((long) chunkX & 0xFFFFFFFFL) | (((long) chunkZ & 0xFFFFFFFFL) << 32);
+    }
+
+    public static long column(int x, int z) {
+        return chunk(x, z);
+    }
+
+    public static long chunkOf(long key) {
+        return chunk(x(key) >> 4, z(key) >> 4);
+    }
+}
@@ -3,10 +3,10 @@ package com.NguyenDevs.worldScrolls.utils;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.Bukkit;
 
-import java.awt.*;
-import java.util.EnumSet;
-import java.util.Set;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -17,23 +17,58 @@ public class ColorUtils {
 
     private static final Pattern HEX_PATTERN = Pattern.compile("#[a-fA-F0-9]{6}");
     private static final Pattern GRADIENT_PATTERN = Pattern.compile("<gradient:#([a-fA-F0-9]{6}):#([a-fA-F0-9]{6})>(.*?)</gradient>", Pattern.DOTALL);
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int CACHE_SIZE = 512;
+
+    private static final ChatColor[] LEGACY_COLORS = {
+            BLACK, DARK_BLUE, ChatColor.DARK_GREEN, ChatColor.DARK_AQUA,
+            ChatColor.DARK_RED, ChatColor.DARK_PURPLE, GOLD, ChatColor.GRAY,
+            ChatColor.DARK_GRAY, ChatColor.BLUE, ChatColor.GREEN, ChatColor.AQUA,
+            ChatColor.RED, ChatColor.LIGHT_PURPLE, ChatColor.YELLOW, ChatColor.WHITE
+    };
+    private static final int[] LEGACY_RGB = {
+            0x000000, 0x0000AA, 0x00AA00, 0x00AAAA,
+            0xAA0000, 0xAA00AA, 0xFFAA00, 0xAAAAAA,
+            0x555555, 0x5555FF, 0x55FF55, 0x55FFFF,
+            0xFF5555, 0xFF55FF, 0xFFFF55, 0xFFFFFF
+    };
+
+    private static final Map<String, String> cache = new LinkedHashMap<String, String>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private static volatile Boolean hexSupported;
 
     public static String colorize(String text) {
         if (text == null) return "";
-        text = processGradients(text);
-        text = processHexColors(text);
-        text = ChatColor.translateAlternateColorCodes('&', text);
-        return text;
+        synchronized (cache) {
+            String cached = cache.get(text);
+            if (cached != null) return cached;
+        }
+        String compiled = compile(text);
+        synchronized (cache) {
+            cache.put(text, compiled);
+        }
+        return compiled;
+    }
+
+    private static String compile(String text) {
+        String result = text;
+        if (result.indexOf('<') >= 0) result = processGradients(result);
+        if (result.indexOf('#') >= 0) result = processHexColors(result);
+        return ChatColor.translateAlternateColorCodes('&', result);
     }
 
     private static String processGradients(String text) {
         Matcher matcher = GRADIENT_PATTERN.matcher(text);
-        StringBuffer buffer = new StringBuffer();
+        StringBuilder buffer = new StringBuilder(text.length() * 4);
         while (matcher.find()) {
-            String startHex = matcher.group(1);
-            String endHex = matcher.group(2);
+            int startRgb = Integer.parseInt(matcher.group(1), 16);
+            int endRgb = Integer.parseInt(matcher.group(2), 16);
             String content = matcher.group(3);
-            String gradientText = createGradient(content, startHex, endHex);
+            String gradientText = createGradient(content, startRgb, endRgb);
             matcher.appendReplacement(buffer, Matcher.quoteReplacement(gradientText));
         }
         matcher.appendTail(buffer);
@@ -42,31 +77,29 @@ public class ColorUtils {
 
     private static String processHexColors(String text) {
         Matcher matcher = HEX_PATTERN.matcher(text);
-        StringBuffer buffer = new StringBuffer();
+        StringBuilder buffer = new StringBuilder(text.length() * 2);
         while (matcher.find()) {
             String hexColor = matcher.group();
-            String replacement = convertHexToMinecraft(hexColor);
+            String replacement = convertHexToMinecraft(Integer.parseInt(hexColor.substring(1), 16));
             matcher.appendReplacement(buffer, Matcher.quoteReplacement(replacement));
         }
         matcher.appendTail(buffer);
         return buffer.toString();
     }
 
-    private static String createGradient(String text, String startHex, String endHex) {
+    private static String createGradient(String text, int startRgb, int endRgb) {
         if (text.isEmpty()) return "";
 
-        Color startColor = Color.decode("#" + startHex);
-        Color endColor = Color.decode("#" + endHex);
+        int visibleCount = countVisibleChars(text);
+        if (visibleCount == 0) return "";
 
-        StringBuilder out = new StringBuilder();
+        int startRed = (startRgb >> 16) & 0xFF, startGreen = (startRgb >> 8) & 0xFF, startBlue = startRgb & 0xFF;
+        int endRed = (endRgb >> 16) & 0xFF, endGreen = (endRgb >> 8) & 0xFF, endBlue = endRgb & 0xFF;
+        boolean hex = supportsHexColors();
 
-        String stripped = stripLegacyCodesKeepState(text, out);
+        StringBuilder out = new StringBuilder(text.length() * 16);
         Set<ChatColor> activeFormats = new LinkedHashSet<>();
 
-
-        int visibleCount = countVisibleChars(text);
-        if (visibleCount == 0) return "";
-
         int seenVisible = 0;
         for (int i = 0; i < text.length(); ) {
             char c = text.charAt(i);
@@ -78,22 +111,18 @@ public class ColorUtils {
                 continue;
             }
 
-            boolean isVisible = true;
-            if (isVisible) {
-                double ratio = visibleCount == 1 ? 1.0 : (double) seenVisible / (visibleCount - 1);
-                int red = (int) Math.round(startColor.getRed() * (1 - ratio) + endColor.getRed() * ratio);
-                int green = (int) Math.round(startColor.getGreen() * (1 - ratio) + endColor.getGreen() * ratio);
-                int blue = (int) Math.round(startColor.getBlue() * (1 - ratio) + endColor.getBlue() * ratio);
-                String hex = String.format("#%02x%02x%02x", red, green, blue);
-
-                out.append(convertHexToMinecraft(hex));
-                for (ChatColor fmt : activeFormats) out.append(fmt);
-
-                out.append(c);
-                seenVisible++;
-            } else {
-                out.append(c);
-            }
+            double ratio = visibleCount == 1 ? 1.0 : (double) seenVisible / (visibleCount - 1);
+            int red = (int) Math.round(startRed * (1 - ratio) + endRed * ratio);
+            int green = (int) Math.round(startGreen * (1 - ratio) + endGreen * ratio);
+            int blue = (int) Math.round(startBlue * (1 - ratio) + endBlue * ratio);
+            int rgb = (red << 16) | (green << 8) | blue;
+
+            if (hex) appendHexColor(out, rgb);
+            else out.append(getClosestChatColor(rgb));
+            for (ChatColor fmt : activeFormats) out.append(fmt);
+
+            out.append(c);
+            seenVisible++;
             i++;
         }
 
@@ -132,80 +161,54 @@ public class ColorUtils {
         return count;
     }
 
-    private static String convertHexToMinecraft(String hex) {
+    private static String convertHexToMinecraft(int rgb) {
         if (supportsHexColors()) {
-            return ChatColor.of(hex).toString();
+            StringBuilder out = new StringBuilder(14);
+            appendHexColor(out, rgb);
+            return out.toString();
         } else {
-            return getClosestChatColor(hex).toString();
+            return getClosestChatColor(rgb).toString();
+        }
+    }
+
+    private static void appendHexColor(StringBuilder out, int rgb) {
+        out.append(ChatColor.COLOR_CHAR).append('x');
+        for (int shift = 20; shift >= 0; shift -= 4) {
+            out.append(ChatColor.COLOR_CHAR).append(HEX_DIGITS[(rgb >> shift) & 0xF]);
         }
     }
 
     private static boolean supportsHexColors() {
+        Boolean supported = hexSupported;
+        if (supported != null) return supported;
         try {
+            if (Bukkit.getServer() == null) return false;
             String version = Bukkit.getServer().getBukkitVersion();
             String[] parts = version.split("\\.");
             int major = Integer.parseInt(parts[0]);
             int minor = Integer.parseInt(parts[1].split("-")[0]);
-            return major > 1 || (major == 1 && minor >= 16);
+            supported = major > 1 || (major == 1 && minor >= 16);
         } catch (Exception e) {
-            return false;
+            supported = false;
         }
+        hexSupported = supported;
+        return supported;
     }
 
-    private static ChatColor getClosestChatColor(String hex) {
-        Color color = Color.decode(hex);
+    private static ChatColor getClosestChatColor(int rgb) {
+        int red = (rgb >> 16) & 0xFF, green = (rgb >> 8) & 0xFF, blue = rgb & 0xFF;
         ChatColor closest = ChatColor.WHITE;
-        double minDistance = Double.MAX_VALUE;
-
-        ChatColor[] colors = {
-                BLACK, DARK_BLUE, ChatColor.DARK_GREEN, ChatColor.DARK_AQUA,
-                ChatColor.DARK_RED, ChatColor.DARK_PURPLE, GOLD, ChatColor.GRAY,
-                ChatColor.DARK_GRAY, ChatColor.BLUE, ChatColor.GREEN, ChatColor.AQUA,
-                ChatColor.RED, ChatColor.LIGHT_PURPLE, ChatColor.YELLOW, ChatColor.WHITE
-        };
-
-        for (ChatColor chatColor : colors) {
-            Color chatColorRGB = getChatColorRGB(chatColor);
-            if (chatColorRGB != null) {
-                double distance = getColorDistance(color, chatColorRGB);
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    closest = chatColor;
-                }
+        int minDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < LEGACY_COLORS.length; i++) {
+            int dr = red - ((LEGACY_RGB[i] >> 16) & 0xFF);
+            int dg = green - ((LEGACY_RGB[i] >> 8) & 0xFF);
+            int db = blue - (LEGACY_RGB[i] & 0xFF);
+            int distance = dr * dr + dg * dg + db * db;
+            if (distance < minDistance) {
+                minDistance = distance;
+                closest = LEGACY_COLORS[i];
             }
         }
         return closest;
     }
-
-    private static Color getChatColorRGB(ChatColor chatColor) {
-        if (chatColor == ChatColor.BLACK) return new Color(0, 0, 0);
-        if (chatColor == ChatColor.DARK_BLUE) return new Color(0, 0, 170);
-        if (chatColor == ChatColor.DARK_GREEN) return new Color(0, 170, 0);
-        if (chatColor == ChatColor.DARK_AQUA) return new Color(0, 170, 170);
-        if (chatColor == ChatColor.DARK_RED) return new Color(170, 0, 0);
-        if (chatColor == ChatColor.DARK_PURPLE) return new Color(170, 0, 170);
-        if (chatColor == ChatColor.GOLD) return new Color(255, 170, 0);
-        if (chatColor == ChatColor.GRAY) return new Color(170, 170, 170);
-        if (chatColor == ChatColor.DARK_GRAY) return new Color(85, 85, 85);
-        if (chatColor == ChatColor.BLUE) return new Color(85, 85, 255);
-        if (chatColor == ChatColor.GREEN) return new Color(85, 255, 85);
-        if (chatColor == ChatColor.AQUA) return new Color(85, 255, 255);
-        if (chatColor == ChatColor.RED) return new Color(255, 85, 85);
-        if (chatColor == ChatColor.LIGHT_PURPLE) return new Color(255, 85, 255);
-        if (chatColor == ChatColor.YELLOW) return new Color(255, 255, 85);
-        if (chatColor == ChatColor.WHITE) return new Color(255, 255, 255);
-        return null;
-    }
-
-    private static double getColorDistance(Color c1, Color c2) {
-        int dr = c1.getRed() - c2.getRed();
-        int dg = c1.getGreen() - c2.getGreen();
-        int db = c1.getBlue() - c2.getBlue();
-        return Math.sqrt(dr * dr + dg * dg + db * db);
-    }
-
-    private static String stripLegacyCodesKeepState(String s, StringBuilder out) {
-        return s;
-    }
 }
-
@@ -0,0 +1,140 @@
+package com.NguyenDevs.worldScrolls.utils;
+
+import java.util.Arrays;
+
+public class LongIntMap {
+
+    private long[] keys;
+    private int[] values;
+    private int[] table;
+    private int size;
+
+    public LongIntMap() {
+        this(64);
+    }
+
+    public LongIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity >> 1];
+        this.values = new int[capacity >> 1];
+        this.table = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long keyAt(int index) {
+        return keys[index];
+    }
+
+    public int valueAt(int index) {
+        return values[index];
+    }
+
+    public long[] rawKeys() {
+        return keys;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    public int get(long key, int defaultValue) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    public void put(long key, int value) {
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (table[slot] != 0) {
+            int index = table[slot] - 1;
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == keys.length) {
+            grow();
+            put(key, value);
+            return;
+        }
+        keys[size] = key;
+        values[size] = value;
+        table[slot] = ++size;
+    }
+
+    public int remove(long key, int defaultValue) {
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (table[slot] != 0 && keys[table[slot] - 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (table[slot] == 0) return defaultValue;
+        int index = table[slot] - 1;
+        int removed = values[index];
+
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (table[next] != 0) {
+            int ideal = mix(keys[table[next] - 1]) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[hole] = 0;
+
+        int last = --size;
+        if (index != last) {
+            long movedKey = keys[last];
+            keys[index] = movedKey;
+            values[index] = values[last];
+            int movedSlot = mix(movedKey) & mask;
+            while (table[movedSlot] != last + 1) movedSlot = (movedSlot + 1) & mask;
+            table[movedSlot] = index + 1;
+        }
+        return removed;
+    }
+
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(table, 0);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (table[slot] != 0) {
+            int index = table[slot] - 1;
+            if (keys[index] == key) return index;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void grow() {
+        keys = Arrays.copyOf(keys, keys.length * 2);
+        values = Arrays.copyOf(values, values.length * 2);
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = mix(keys[index]) & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = index + 1;
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,118 @@
+package com.NguyenDevs.worldScrolls.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class MessageTemplate {
+
+    private final String source;
+    private final String[] literals;
+    private final String[] slots;
+    private final int length;
+
+    private MessageTemplate(String source, String[] literals, String[] slots, int length) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.length = length;
+    }
+
+    public static MessageTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int start = 0;
+        int literalStart = 0;
+        while (true) {
+            int open = text.indexOf('%', start);
+            if (open < 0) break;
+            int close = text.indexOf('%', open + 1);
+            if (close < 0) break;
+            if (close == open + 1 || !isSlotName(text, open + 1, close)) {
+                start = close;
+                continue;
+            }
+            literals.add(text.substring(literalStart, open));
+            slots.add(text.substring(open + 1, close));
+            literalStart = close + 1;
+            start = literalStart;
+        }
+        literals.add(text.substring(literalStart));
+        int length = 0;
+        for (String literal : literals) length += literal.length();
+        return new MessageTemplate(text, literals.toArray(new String[0]), slots.toArray(new String[0]), length);
+    }
+
+    private static boolean isSlotName(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') return false;
+        }
+        return true;
+    }
+
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    public String getSlot(int index) {
+        return slots[index];
+    }
+
+    public int indexOf(String slot) {
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].equals(slot)) return i;
+        }
+        return -1;
+    }
+
+    public String render() {
+        return source;
+    }
+
+    public String render(String key, Object value) {
+        if (slots.length == 0) return source;
+        StringBuilder out = new StringBuilder(length + 16);
+        out.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].equals(key)) out.append(value);
+            else out.append('%').append(slots[i]).append('%');
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    public String render(Object... keyValues) {
+        if (slots.length == 0) return source;
+        StringBuilder out = new StringBuilder(length + 16 * slots.length);
+        out.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            appendSlot(out, slots[i], keyValues);
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    public String render(Map<String, String> placeholders) {
+        if (slots.length == 0 || placeholders == null) return source;
+        StringBuilder out = new StringBuilder(length + 16 * slots.length);
+        out.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            String value = placeholders.get(slots[i]);
+            if (value != null) out.append(value);
+            else out.append('%').append(slots[i]).append('%');
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    private static void appendSlot(StringBuilder out, String slot, Object[] keyValues) {
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            if (slot.equals(keyValues[i])) {
+                out.append(keyValues[i + 1]);
+                return;
+            }
+        }
+        out.append('%').append(slot).append('%');
+    }
+}
@@ -0,0 +1,117 @@
+package com.NguyenDevs.worldScrolls.utils;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.BlockPosition;
+import com.comphenix.protocol.wrappers.WrappedBlockData;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+public class PhantomBlockSender {
+
+    private final ProtocolManager pm = ProtocolLibrary.getProtocolManager();
+    private final boolean multiBlockChange;
+    private final int batchSize;
+
+    private final LongIntMap sectionIndex = new LongIntMap(32);
+    private final List<PacketContainer> packets = new ArrayList<>();
+    private int[] sectionOf = new int[256];
+    private int[] sectionStart = new int[32];
+    private int[] order = new int[256];
+
+    public PhantomBlockSender(boolean multiBlockChange, int batchSize) {
+        this.multiBlockChange = multiBlockChange;
+        this.batchSize = Math.max(1, Math.min(4096, batchSize));
+    }
+
+    public int send(Player player, long[] positions, WrappedBlockData[] data, int count) {
+        return send(Collections.singletonList(player), positions, data, count);
+    }
+
+    public int send(Collection<? extends Player> players, long[] positions, WrappedBlockData[] data, int count) {
+        if (players.isEmpty() || count == 0) return 0;
+        buildPackets(positions, data, count);
+        for (Player player : players) {
+            for (int i = 0; i < packets.size(); i++) {
+                try {
+                    pm.sendServerPacket(player, packets.get(i), false);
+                } catch (Exception ignored) {}
+            }
+        }
+        int sent = packets.size() * players.size();
+        packets.clear();
+        return sent;
+    }
+
+    private void buildPackets(long[] positions, WrappedBlockData[] data, int count) {
+        packets.clear();
+        if (!multiBlockChange) {
+            for (int i = 0; i < count; i++) {
+                packets.add(createBlockChange(positions[i], data[i]));
+            }
+            return;
+        }
+
+        if (sectionOf.length < count) {
+            sectionOf = new int[count * 2];
+            order = new int[count * 2];
+        }
+        sectionIndex.clear();
+        for (int i = 0; i < count; i++) {
+            long section = BlockKey.section(positions[i]);
+            int id = sectionIndex.get(section, -1);
+            if (id < 0) {
+                id = sectionIndex.size();
+                sectionIndex.put(section, id);
+            }
+            sectionOf[i] = id;
+        }
+
+        int sections = sectionIndex.size();
+        if (sectionStart.length < sections + 1) sectionStart = new int[(sections + 1) * 2];
+        Arrays.fill(sectionStart, 0, sections + 1, 0);
+        for (int i = 0; i < count; i++) sectionStart[sectionOf[i] + 1]++;
+        for (int s = 0; s < sections; s++) sectionStart[s + 1] += sectionStart[s];
+        for (int i = 0; i < count; i++) order[sectionStart[sectionOf[i]]++] = i;
+        for (int s = sections; s > 0; s--) sectionStart[s] = sectionStart[s - 1];
+        sectionStart[0] = 0;
+
+        for (int s = 0; s < sections; s++) {
+            int end = sectionStart[s + 1];
+            for (int from = sectionStart[s]; from < end; from += batchSize) {
+                int to = Math.min(end, from + batchSize);
+                if (to - from == 1) {
+                    packets.add(createBlockChange(positions[order[from]], data[order[from]]));
+                } else {
+                    packets.add(createMultiBlockChange(sectionIndex.keyAt(s), positions, data, from, to));
+                }
+            }
+        }
+    }
+
+    private PacketContainer createBlockChange(long pos, WrappedBlockData data) {
+        PacketContainer packet = pm.createPacket(PacketType.Play.Server.BLOCK_CHANGE);
+        packet.getBlockPositionModifier().write(0, new BlockPosition(BlockKey.x(pos), BlockKey.y(pos), BlockKey.z(pos)));
+        packet.getBlockData().write(0, data);
+        return packet;
+    }
+
+    private PacketContainer createMultiBlockChange(long section, long[] positions, WrappedBlockData[] data, int from, int to) {
+        short[] relative = new short[to - from];
+        WrappedBlockData[] states = new WrappedBlockData[to - from];
+        for (int i = from; i < to; i++) {
+            long pos = positions[order[i]];
+            relative[i - from] = (short) ((BlockKey.x(pos) & 15) << 8 | (BlockKey.z(pos) & 15) << 4 | (BlockKey.y(pos) & 15));
+            states[i - from] = data[order[i]];
+        }
+        PacketContainer packet = pm.createPacket(PacketType.Play.Server.MULTI_BLOCK_CHANGE);
+        packet.getSectionPositions().write(0, new BlockPosition(BlockKey.x(section), BlockKey.y(section), BlockKey.z(section)));
+        packet.getShortArrays().write(0, relative);
+        packet.getBlockDataArrays().write(0, states);
+        packet.getBooleans().writeSafely(0, true);
+        return packet;
+    }
+}
@@ -0,0 +1,84 @@
+package com.NguyenDevs.worldScrolls.sim;
+
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.BlockView;
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+import org.bukkit.Material;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public final class GridBlockView implements BlockView {
+
+    private static final int MIN_HEIGHT = -64;
+    private static final int MAX_HEIGHT = 320;
+    private static final int SEA_LEVEL = 62;
+    private static final int UNSET = Integer.MIN_VALUE;
+
+    private final double phaseA, phaseB, phaseC;
+    private final Map<Long, Material> edits = new HashMap<>();
+    private final LongIntMap tops = new LongIntMap(1024);
+
+    public GridBlockView(long seed) {
+        Random random = new Random(seed);
+        this.phaseA = random.nextDouble() * Math.PI * 2;
+        this.phaseB = random.nextDouble() * Math.PI * 2;
+        this.phaseC = random.nextDouble() * Math.PI * 2;
+    }
+
+    public int getSurfaceHeight(int x, int z) {
+        return 64 + (int) Math.round(6 * Math.sin(x * 0.05 + phaseA)
+                + 4 * Math.cos(z * 0.07 + phaseB)
+                + 3 * Math.sin((x + z) * 0.11 + phaseC));
+    }
+
+    private Material baseType(int x, int y, int z) {
+        if (y == MIN_HEIGHT) return Material.BEDROCK;
+        int surface = getSurfaceHeight(x, z);
+        if (y > surface) return y <= SEA_LEVEL ? Material.WATER : Material.AIR;
+        if (y == surface) return surface < SEA_LEVEL ? Material.SAND : Material.GRASS_BLOCK;
+        if (y > surface - 4) return Material.DIRT;
+        return y < 0 ? Material.DEEPSLATE : Material.STONE;
+    }
+
+    @Override
+    public Material getType(int x, int y, int z) {
+        if (y < MIN_HEIGHT || y >= MAX_HEIGHT) return Material.VOID_AIR;
+        Material edited = edits.get(BlockKey.pack(x, y, z));
+        return edited != null ? edited : baseType(x, y, z);
+    }
+
+    @Override
+    public int getHighestBlockYAt(int x, int z) {
+        int top = tops.get(BlockKey.column(x, z), UNSET);
+        return top != UNSET ? top : Math.max(getSurfaceHeight(x, z), SEA_LEVEL);
+    }
+
+    public void set(int x, int y, int z, Material material) {
+        if (y < MIN_HEIGHT || y >= MAX_HEIGHT) return;
+        int top = getHighestBlockYAt(x, z);
+        edits.put(BlockKey.pack(x, y, z), material);
+        if (!material.isAir() && y > top) {
+            tops.put(BlockKey.column(x, z), y);
+        } else if (material.isAir() && y == top) {
+            int below = y - 1;
+            while (below > MIN_HEIGHT && getType(x, below, z).isAir()) below--;
+            tops.put(BlockKey.column(x, z), below);
+        }
+    }
+
+    public int getEditedBlocks() {
+        return edits.size();
+    }
+
+    @Override
+    public int getMinHeight() {
+        return MIN_HEIGHT;
+    }
+
+    @Override
+    public int getMaxHeight() {
+        return MAX_HEIGHT;
+    }
+}
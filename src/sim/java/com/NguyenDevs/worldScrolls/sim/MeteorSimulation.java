@@ -0,0 +1,309 @@
+package com.NguyenDevs.worldScrolls.sim;
+
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.CraterPlan;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.CraterPlanner;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.MeteorFrame;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.MeteorLaunch;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.MeteorModel;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.MeteorModelCache;
+import com.NguyenDevs.worldScrolls.listeners.scrolls.meteor.MeteorPath;
+import com.NguyenDevs.worldScrolls.utils.BlockKey;
+import com.NguyenDevs.worldScrolls.utils.LongIntMap;
+import org.bukkit.Material;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+public final class MeteorSimulation {
+
+    private static final int MIN_METEOR_SIZE = 3;
+    private static final int MAX_METEOR_SIZE = 10;
+    private static final int SPAWN_HEIGHT = 100;
+    private static final int MAX_TICKS = 20 * 40;
+
+    private enum Phase {
+        MODEL("model"),
+        PATH("path"),
+        RENDER("render"),
+        CRATER_PLAN("crater-plan"),
+        CRATER_APPLY("crater-apply");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private final List<List<MeteorLaunch>> showers;
+    private final long terrainSeed;
+    private final int viewers;
+    private final boolean multiBlockChange;
+    private final int batchSize;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTime;
+    private final LongIntMap sectionCounts = new LongIntMap(32);
+
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long meteors;
+    private long voxels;
+    private long frames;
+    private long blocksSent;
+    private long packetsSent;
+    private long editsPlanned;
+    private long editsApplied;
+    private long firesScheduled;
+    private long pathColumns;
+    private long pathReplans;
+    private long timeouts;
+
+    private MeteorSimulation(List<List<MeteorLaunch>> showers, long terrainSeed, int viewers, boolean multiBlockChange, int batchSize) {
+        this.showers = showers;
+        this.terrainSeed = terrainSeed;
+        this.viewers = viewers;
+        this.multiBlockChange = multiBlockChange;
+        this.batchSize = Math.max(1, Math.min(4096, batchSize));
+        this.cpuTime = threads.isCurrentThreadCpuTimeSupported();
+        if (cpuTime) threads.setThreadCpuTimeEnabled(true);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String recording = null;
+        long seed = 42L;
+        int showerCount = 4;
+        int meteorsPerShower = 3;
+        int viewers = 4;
+        int batchSize = 256;
+        boolean multiBlockChange = true;
+        int warmup = 2;
+        int iterations = 5;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--recording": recording = args[++i]; break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--showers": showerCount = Integer.parseInt(args[++i]); break;
+                case "--meteors": meteorsPerShower = Integer.parseInt(args[++i]); break;
+                case "--viewers": viewers = Integer.parseInt(args[++i]); break;
+                case "--batch-size": batchSize = Integer.parseInt(args[++i]); break;
+                case "--no-multi-block-change": multiBlockChange = false; break;
+                case "--warmup": warmup = Integer.parseInt(args[++i]); break;
+                case "--iterations": iterations = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        List<List<MeteorLaunch>> showers = recording != null
+                ? readRecording(recording)
+                : rollShowers(seed, showerCount, meteorsPerShower);
+        MeteorModelCache modelCache = new MeteorModelCache(MIN_METEOR_SIZE, MAX_METEOR_SIZE, 8);
+
+        for (int i = 0; i < warmup; i++) {
+            new MeteorSimulation(showers, seed, viewers, multiBlockChange, batchSize).run(modelCache);
+        }
+        MeteorSimulation total = new MeteorSimulation(showers, seed, viewers, multiBlockChange, batchSize);
+        for (int i = 0; i < Math.max(1, iterations); i++) {
+            total.run(modelCache);
+        }
+        total.report(recording != null ? recording : "seed " + seed, Math.max(1, iterations));
+    }
+
+    private static List<List<MeteorLaunch>> readRecording(String file) throws IOException {
+        List<List<MeteorLaunch>> showers = new ArrayList<>();
+        List<MeteorLaunch> shower = null;
+        for (String line : Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (line.isEmpty()) continue;
+            if (line.startsWith("#")) {
+                shower = new ArrayList<>();
+                showers.add(shower);
+                continue;
+            }
+            if (shower == null) {
+                shower = new ArrayList<>();
+                showers.add(shower);
+            }
+            shower.add(MeteorLaunch.parse(line));
+        }
+        return showers;
+    }
+
+    private static List<List<MeteorLaunch>> rollShowers(long seed, int showerCount, int meteorsPerShower) {
+        Random random = new Random(seed);
+        GridBlockView terrain = new GridBlockView(seed);
+        List<List<MeteorLaunch>> showers = new ArrayList<>(showerCount);
+        for (int i = 0; i < showerCount; i++) {
+            int targetX = random.nextInt(256) - 128;
+            int targetZ = random.nextInt(256) - 128;
+            int targetY = terrain.getHighestBlockYAt(targetX, targetZ) + 1;
+            showers.add(MeteorLaunch.rollShower(targetX + 0.5, targetY, targetZ + 0.5, meteorsPerShower,
+                    SPAWN_HEIGHT, MIN_METEOR_SIZE, MAX_METEOR_SIZE, random));
+        }
+        return showers;
+    }
+
+    private void run(MeteorModelCache modelCache) {
+        GridBlockView terrain = new GridBlockView(terrainSeed);
+        for (List<MeteorLaunch> shower : showers) {
+            for (MeteorLaunch launch : shower) {
+                simulate(terrain, modelCache, launch);
+            }
+        }
+    }
+
+    private void simulate(GridBlockView terrain, MeteorModelCache modelCache, MeteorLaunch launch) {
+        meteors++;
+        long start = now();
+        MeteorModel model = modelCache.getModel(launch.getShape(), launch.getSize(), launch.getModelSeed());
+        start = lap(Phase.MODEL, start);
+        voxels += model.getVoxelCount();
+
+        double x = launch.getStartX();
+        double y = launch.getStartY();
+        double z = launch.getStartZ();
+        double speed = launch.getSpeed();
+        MeteorPath path = new MeteorPath(x, y, z, launch.getDirX(), launch.getDirY(), launch.getDirZ(), speed, MAX_TICKS + 1);
+        path.plan(terrain, 0);
+        start = lap(Phase.PATH, start);
+
+        MeteorFrame frame = new MeteorFrame(model.getVoxelCount());
+        boolean shown = false;
+        int step = 0;
+        int tickCount = 0;
+        double impactX = x, impactY = y, impactZ = z;
+        while (true) {
+            if (tickCount++ > MAX_TICKS) {
+                timeouts++;
+                impactX = x;
+                impactY = y;
+                impactZ = z;
+                break;
+            }
+            path.validate(terrain, step);
+            if (step == path.getImpactStep()) {
+                impactX = path.getImpactX();
+                impactY = path.getImpactY();
+                impactZ = path.getImpactZ();
+                break;
+            }
+            step++;
+            x += launch.getDirX() * speed;
+            y += launch.getDirY() * speed;
+            z += launch.getDirZ() * speed;
+            if (tickCount % 2 == 0) {
+                start = lap(Phase.PATH, start);
+                frame.update(model, x, y, z);
+                if (shown) {
+                    send(frame.getDeltaKeys(), frame.getDeltaCount());
+                } else {
+                    send(frame.getCurrent().rawKeys(), frame.getCurrent().size());
+                    shown = true;
+                }
+                frame.commit();
+                frames++;
+                start = lap(Phase.RENDER, start);
+            }
+        }
+        start = lap(Phase.PATH, start);
+        send(frame.getPrevious().rawKeys(), frame.getPrevious().size());
+        start = lap(Phase.RENDER, start);
+        pathColumns += path.getColumnCount();
+        pathReplans += path.getReplans();
+
+        CraterPlanner planner = new CraterPlanner(impactX, impactY, impactZ,
+                launch.getDirX(), launch.getDirY(), launch.getDirZ(), launch.getSize(), launch.getCraterSeed());
+        CraterPlan plan = planner.plan(terrain);
+        start = lap(Phase.CRATER_PLAN, start);
+
+        editsPlanned += plan.getEditCount();
+        for (int i = 0; i < plan.getEditCount(); i++) {
+            if (apply(terrain, plan, i)) editsApplied++;
+        }
+        firesScheduled += plan.getFireCount();
+        lap(Phase.CRATER_APPLY, start);
+    }
+
+    private boolean apply(GridBlockView terrain, CraterPlan plan, int index) {
+        long key = plan.getEditKey(index);
+        int x = BlockKey.x(key);
+        int y = BlockKey.y(key);
+        int z = BlockKey.z(key);
+        Material material = plan.getEditMaterial(index);
+        Material current = terrain.getType(x, y, z);
+        switch (plan.getEditMode(index)) {
+            case REPLACE_SOLID:
+                if (!current.isSolid() || current == Material.BEDROCK) return false;
+                break;
+            case FILL_AIR:
+                if (!current.isAir()) return false;
+                break;
+            case EXTINGUISH:
+            case EXTINGUISH_UNSUPPORTED:
+                if (current != Material.FIRE && current != Material.SOUL_FIRE) return false;
+                break;
+            default:
+                break;
+        }
+        if (current == material) return false;
+        terrain.set(x, y, z, material);
+        return true;
+    }
+
+    private void send(long[] keys, int count) {
+        if (count == 0 || viewers == 0) return;
+        blocksSent += (long) count * viewers;
+        packetsSent += (long) countPackets(keys, count) * viewers;
+    }
+
+    private int countPackets(long[] keys, int count) {
+        if (!multiBlockChange) return count;
+        sectionCounts.clear();
+        for (int i = 0; i < count; i++) {
+            long section = BlockKey.section(keys[i]);
+            sectionCounts.put(section, sectionCounts.get(section, 0) + 1);
+        }
+        int packets = 0;
+        for (int s = 0; s < sectionCounts.size(); s++) {
+            packets += (sectionCounts.valueAt(s) + batchSize - 1) / batchSize;
+        }
+        return packets;
+    }
+
+    private long now() {
+        return cpuTime ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private long lap(Phase phase, long start) {
+        long end = now();
+        phaseNanos[phase.ordinal()] += end - start;
+        return end;
+    }
+
+    private void report(String source, int iterations) {
+        System.out.printf(Locale.ROOT, "Meteor simulation (%s): %d showers, %d meteors, %d viewers, %d iterations, %s time%n",
+                source, showers.size(), meteors / iterations, viewers, iterations, cpuTime ? "cpu" : "wall");
+        long totalNanos = 0;
+        for (long nanos : phaseNanos) totalNanos += nanos;
+        for (Phase phase : Phase.values()) {
+            double millis = phaseNanos[phase.ordinal()] / 1_000_000.0 / iterations;
+            System.out.printf(Locale.ROOT, "  %-13s %10.3f ms/iter %6.1f%%%n", phase.label, millis,
+                    totalNanos > 0 ? 100.0 * phaseNanos[phase.ordinal()] / totalNanos : 0.0);
+        }
+        System.out.printf(Locale.ROOT, "  %-13s %10.3f ms/iter%n", "total", totalNanos / 1_000_000.0 / iterations);
+        System.out.printf(Locale.ROOT, "  voxels        %d (%.1f per meteor)%n", voxels / iterations, (double) voxels / Math.max(1, meteors));
+        System.out.printf(Locale.ROOT, "  frames        %d%n", frames / iterations);
+        System.out.printf(Locale.ROOT, "  blocks sent   %d in %d packets (%s, batch %d)%n", blocksSent / iterations, packetsSent / iterations,
+                multiBlockChange ? "multi-block-change" : "block-change", batchSize);
+        System.out.printf(Locale.ROOT, "  block edits   %d planned, %d applied, %d fire burn-outs%n",
+                editsPlanned / iterations, editsApplied / iterations, firesScheduled / iterations);
+        System.out.printf(Locale.ROOT, "  path          %d columns, %d replans, %d timeouts%n",
+                pathColumns / iterations, pathReplans / iterations, timeouts / iterations);
+    }
+}